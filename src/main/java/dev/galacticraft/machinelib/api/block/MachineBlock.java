@@ -179,6 +179,7 @@ public void neighborChanged(BlockState state, Level level, BlockPos pos, Block b
         super.neighborChanged(state, level, pos, block, fromPos, notify);
         if (!level.isClientSide) {
             if (level.getBlockEntity(pos) instanceof MachineBlockEntity machine) {
+                machine.invalidateConnections();
                 machine.getState().setPowered(level.hasNeighborSignal(pos));
             }
         }
@@ -199,6 +200,7 @@ public void onPlace(BlockState state, Level level, BlockPos pos, BlockState bloc
         super.onPlace(state, level, pos, blockState2, bl);
         if (!level.isClientSide) {
             if (level.getBlockEntity(pos) instanceof MachineBlockEntity machine) {
+                machine.invalidateConnections();
                 machine.getState().setPowered(level.hasNeighborSignal(pos));
             }
         }
@@ -23,6 +23,7 @@
 package dev.galacticraft.machinelib.api.block.entity;
 
 import dev.galacticraft.machinelib.api.menu.SynchronizedMenu;
+import dev.galacticraft.machinelib.impl.menu.MenuSyncHub;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.fabricmc.fabric.api.screenhandler.v1.ExtendedScreenHandlerFactory;
 import net.minecraft.core.BlockPos;
@@ -44,6 +45,7 @@
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -55,6 +57,14 @@
  * @see SynchronizedMenu
  */
 public abstract class BaseBlockEntity extends BlockEntity implements ExtendedScreenHandlerFactory<BlockPos> {
+    /**
+     * Shares menu synchronization between the players viewing this machine.
+     * Created lazily, as most machines are never opened.
+     *
+     * @see #getMenuSyncHub()
+     */
+    private @Nullable MenuSyncHub menuSyncHub = null;
+
     /**
      * Constructs a new base block entity.
      *
@@ -119,6 +129,17 @@ public BlockPos getScreenOpeningData(ServerPlayer player) {
         return this.getBlockState().getBlock().getName();
     }
 
+    /**
+     * {@return the hub used to synchronize the menus of every player viewing this machine}
+     */
+    @ApiStatus.Internal
+    public @NotNull MenuSyncHub getMenuSyncHub() {
+        if (this.menuSyncHub == null) {
+            this.menuSyncHub = new MenuSyncHub();
+        }
+        return this.menuSyncHub;
+    }
+
     /**
      * Broadcasts an update to all players tracking this machine (within view distance).
      *
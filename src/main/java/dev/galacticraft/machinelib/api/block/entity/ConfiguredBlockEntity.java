@@ -30,11 +30,14 @@
 import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
 import dev.galacticraft.machinelib.api.transfer.ResourceType;
 import dev.galacticraft.machinelib.api.util.BlockFace;
+import dev.galacticraft.machinelib.api.util.NeighborCache;
 import dev.galacticraft.machinelib.impl.Constant;
 import dev.galacticraft.machinelib.impl.network.s2c.BaseMachineUpdatePayload;
 import dev.galacticraft.machinelib.impl.network.s2c.SideConfigurationUpdatePayload;
+import io.netty.buffer.ByteBuf;
 import net.fabricmc.fabric.api.blockview.v2.RenderDataBlockEntity;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.ByteTag;
 import net.minecraft.nbt.CompoundTag;
@@ -51,6 +54,7 @@
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.UUID;
 
 public abstract class ConfiguredBlockEntity extends BaseBlockEntity implements RenderDataBlockEntity {
@@ -71,6 +75,40 @@ public abstract class ConfiguredBlockEntity extends BaseBlockEntity implements R
      * @see #isActive()
      */
     private boolean active = false;
+    /**
+     * Incremented whenever the connections of this machine to adjacent blocks may have changed.
+     *
+     * @see #getConnectionsVersion()
+     */
+    private long connectionsVersion = 0;
+    /**
+     * The blocks adjacent to this machine. Created on first use.
+     *
+     * @see #getNeighborCache()
+     */
+    private @Nullable NeighborCache neighbors = null;
+    /**
+     * The I/O face pointing in each direction, indexed by direction ordinal.
+     *
+     * @see #getIOFace(Direction)
+     */
+    private final IOFace[] routedFaces = new IOFace[6];
+    /**
+     * The directions matching each resource type and flow, as bitmasks.
+     *
+     * @see #getRoutedDirections(ResourceType, ResourceFlow)
+     */
+    private final int[] routedDirections = new int[Constant.Cache.RESOURCE_TYPES.length * ResourceFlow.VALUES.length];
+    /**
+     * The connections version the routing tables were built for.
+     */
+    private long routingVersion = -1;
+    /**
+     * The faces whose configuration changed since the last tick, as a bitmask of {@link BlockFace} ordinals.
+     *
+     * @see #flushFaceChanges(ServerLevel, BlockPos, BlockState)
+     */
+    private int changedFaces = 0;
 
     /**
      * Constructs a new machine block entity.
@@ -165,6 +203,32 @@ public final void tickBase(@NotNull ServerLevel level, @NotNull BlockPos pos, @N
                 MachineBlock.updateActiveState(level, pos, state, this.active = this.state.isActive());
             }
         }
+        this.flushFaceChanges(level, pos, state);
+    }
+
+    /**
+     * Notifies neighbors and clients of the faces reconfigured since the last tick.
+     * Batching changes means resetting or copying a whole configuration results in a single packet and save.
+     * Changes made to a machine that is not ticking (e.g. outside the simulation distance) are only flushed on its next
+     * {@link #tickBase(ServerLevel, BlockPos, BlockState, ProfilerFiller)}.
+     *
+     * @param level the world.
+     * @param pos the position of this machine.
+     * @param state the block state of this machine.
+     */
+    private void flushFaceChanges(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state) {
+        if (this.changedFaces == 0) return;
+        int faces = this.changedFaces;
+        this.changedFaces = 0;
+
+        Direction facing = state.getValue(BlockStateProperties.HORIZONTAL_FACING);
+        for (BlockFace face : BlockFace.values()) {
+            if ((faces & 1 << face.ordinal()) != 0) {
+                level.neighborChanged(pos.relative(face.toDirection(facing)), state.getBlock(), pos);
+            }
+        }
+        this.setChanged();
+        this.broadcastToPlayers(SideConfigurationUpdatePayload.create(pos, faces, this.getIOConfig()));
     }
 
     /**
@@ -241,6 +305,106 @@ public boolean isDisabled() {
         return !this.redstone.isActive(this.state.isPowered());
     }
 
+    /**
+     * {@return a counter that changes whenever the connections of this machine to adjacent blocks may have changed}
+     * This happens when an IO face is reconfigured, a neighboring block changes, or this machine is (un)loaded.
+     * Use it to invalidate anything derived from the neighbors of this machine.
+     *
+     * @see #invalidateConnections()
+     */
+    @Contract(pure = true)
+    public long getConnectionsVersion() {
+        return this.connectionsVersion;
+    }
+
+    /**
+     * Marks anything derived from the neighbors of this machine as outdated.
+     *
+     * @see #getConnectionsVersion()
+     */
+    public void invalidateConnections() {
+        this.connectionsVersion++;
+    }
+
+    /**
+     * {@return the cache of the blocks adjacent to this machine}
+     * Share it between all lookups into neighboring blocks, rather than creating one cache per lookup.
+     */
+    public @NotNull NeighborCache getNeighborCache() {
+        if (this.neighbors == null) {
+            this.neighbors = NeighborCache.create(this);
+        }
+        return this.neighbors;
+    }
+
+    /**
+     * {@return the I/O configuration of the face pointing in the given direction}
+     * Equivalent to looking up the {@link BlockFace} of the direction, but cached until the machine is rotated or reconfigured.
+     *
+     * @param direction the direction of the face
+     */
+    public final @NotNull IOFace getIOFace(@NotNull Direction direction) {
+        this.updateRouting();
+        return this.routedFaces[direction.ordinal()];
+    }
+
+    /**
+     * {@return a bitmask of the directions whose face accepts the given resource type and flow}
+     * Bit {@code n} is set when the face pointing in the direction with ordinal {@code n} matches.
+     * Cached until the machine is rotated or reconfigured.
+     *
+     * @param type the resource type the face must accept
+     * @param flow the flow the face must allow
+     * @see IOConfig#getDirections(Direction, ResourceType, ResourceFlow)
+     */
+    public final int getRoutedDirections(@NotNull ResourceType type, @NotNull ResourceFlow flow) {
+        this.updateRouting();
+        return this.routedDirections[type.ordinal() * ResourceFlow.VALUES.length + flow.ordinal()];
+    }
+
+    private void updateRouting() {
+        if (this.routingVersion == this.connectionsVersion) return;
+        this.routingVersion = this.connectionsVersion;
+
+        Arrays.fill(this.routedDirections, 0);
+        Direction facing = this.getBlockState().getValue(BlockStateProperties.HORIZONTAL_FACING);
+        for (Direction direction : Constant.Cache.DIRECTIONS) {
+            IOFace face = this.configuration.get(BlockFace.from(facing, direction));
+            this.routedFaces[direction.ordinal()] = face;
+
+            for (ResourceType type : Constant.Cache.RESOURCE_TYPES) {
+                if (!face.getType().willAcceptResource(type)) continue;
+                for (ResourceFlow flow : ResourceFlow.VALUES) {
+                    if (face.getFlow().canFlowIn(flow)) {
+                        this.routedDirections[type.ordinal() * ResourceFlow.VALUES.length + flow.ordinal()] |= 1 << direction.ordinal();
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void setBlockState(BlockState state) {
+        Direction previous = this.getBlockState().getValue(BlockStateProperties.HORIZONTAL_FACING);
+        super.setBlockState(state);
+        if (state.getValue(BlockStateProperties.HORIZONTAL_FACING) != previous) {
+            this.invalidateConnections();
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        this.invalidateConnections();
+    }
+
+    @Override
+    public void clearRemoved() {
+        super.clearRemoved();
+        this.invalidateConnections();
+    }
+
     /**
      * Serializes the machine's state to nbt.
      *
@@ -276,6 +440,7 @@ public void loadAdditional(CompoundTag tag, HolderLookup.Provider lookup) {
             this.state.readTag((ByteTag) tag.get(Constant.Nbt.STATE));
         if (tag.contains(Constant.Nbt.ACTIVE))
             this.active = tag.getBoolean(Constant.Nbt.ACTIVE);
+        this.invalidateConnections();
 
         if (this.level != null && this.level.isClientSide()) {
             this.level.sendBlockUpdated(this.worldPosition, Blocks.AIR.defaultBlockState(), this.getBlockState(), Block.UPDATE_IMMEDIATE);
@@ -359,21 +524,31 @@ public InternalIOFace(int i) {
             this.face = BlockFace.values()[i];
         }
 
+        @Override
+        public void readTag(@NotNull ByteTag tag) {
+            super.readTag(tag);
+            ConfiguredBlockEntity.this.invalidateConnections();
+        }
+
+        @Override
+        public void readPacket(@NotNull ByteBuf buf) {
+            super.readPacket(buf);
+            ConfiguredBlockEntity.this.invalidateConnections();
+        }
+
         @Override
         public void setOption(@NotNull ResourceType type, @NotNull ResourceFlow flow) {
             if (this.type != type || this.flow != flow) {
                 this.type = type;
                 this.flow = flow;
 
-                ConfiguredBlockEntity.this.level.neighborChanged(
-                        ConfiguredBlockEntity.this.worldPosition.relative(face.toDirection(ConfiguredBlockEntity.this.getBlockState().getValue(BlockStateProperties.HORIZONTAL_FACING))),
-                        ConfiguredBlockEntity.this.getBlockState().getBlock(),
-                        ConfiguredBlockEntity.this.worldPosition
-                );
-                ConfiguredBlockEntity.this.setChanged();
-                ConfiguredBlockEntity.this.requestRerender();
-                if (ConfiguredBlockEntity.this.level != null && !ConfiguredBlockEntity.this.level.isClientSide) {
-                    ConfiguredBlockEntity.this.broadcastToPlayers(new SideConfigurationUpdatePayload(ConfiguredBlockEntity.this.worldPosition, this.face, type, flow));
+                ConfiguredBlockEntity.this.invalidateConnections();
+                if (ConfiguredBlockEntity.this.level != null && ConfiguredBlockEntity.this.level.isClientSide) {
+                    ConfiguredBlockEntity.this.setChanged();
+                    ConfiguredBlockEntity.this.requestRerender();
+                } else {
+                    // neighbors, saving and clients are updated once per tick, on the next tickBase
+                    ConfiguredBlockEntity.this.changedFaces |= 1 << this.face.ordinal();
                 }
             }
         }
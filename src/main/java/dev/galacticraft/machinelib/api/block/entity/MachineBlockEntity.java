@@ -33,7 +33,6 @@
 import dev.galacticraft.machinelib.api.storage.slot.ItemResourceSlot;
 import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
 import dev.galacticraft.machinelib.api.transfer.ResourceType;
-import dev.galacticraft.machinelib.api.util.BlockFace;
 import dev.galacticraft.machinelib.api.util.StorageHelper;
 import dev.galacticraft.machinelib.impl.Constant;
 import net.fabricmc.fabric.api.blockview.v2.RenderDataBlockEntity;
@@ -60,7 +59,6 @@
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import team.reborn.energy.api.EnergyStorage;
-import team.reborn.energy.api.EnergyStorageUtil;
 
 import java.util.Objects;
 
@@ -111,17 +109,17 @@ protected MachineBlockEntity(BlockEntityType<? extends MachineBlockEntity> type,
     public static <T extends MachineBlockEntity> void registerProviders(@NotNull BlockEntityType<? extends T> type) {
         EnergyStorage.SIDED.registerForBlockEntity((machine, direction) -> {
             if (direction == null) return machine.energyStorage().getExposedStorage(ResourceFlow.BOTH);
-            IOFace ioFace = machine.getIOConfig().get(Objects.requireNonNull(BlockFace.from(machine.getBlockState(), direction)));
+            IOFace ioFace = machine.getIOFace(direction);
             return ioFace.getType().willAcceptResource(ResourceType.ENERGY) ? machine.energyStorage().getExposedStorage(ioFace.getFlow()) : null;
         }, type);
         ItemStorage.SIDED.registerForBlockEntity((machine, direction) -> {
             if (direction == null) return machine.itemStorage().getExposedStorage(ResourceFlow.BOTH);
-            IOFace ioFace = machine.getIOConfig().get(Objects.requireNonNull(BlockFace.from(machine.getBlockState(), direction)));
+            IOFace ioFace = machine.getIOFace(direction);
             return ioFace.getType().willAcceptResource(ResourceType.ITEM) ? machine.itemStorage().getExposedStorage(ioFace.getFlow()) : null;
         }, type);
         FluidStorage.SIDED.registerForBlockEntity((machine, direction) -> {
             if (direction == null) return machine.fluidStorage().getExposedStorage(ResourceFlow.BOTH);
-            IOFace ioFace = machine.getIOConfig().get(Objects.requireNonNull(BlockFace.from(machine.getBlockState(), direction)));
+            IOFace ioFace = machine.getIOFace(direction);
             return ioFace.getType().willAcceptResource(ResourceType.FLUID) ? machine.fluidStorage().getExposedStorage(ioFace.getFlow()) : null;
         }, type);
     }
@@ -173,7 +171,7 @@ protected void chargeFromSlot(int slot) {
 
         EnergyStorage energyStorage = this.itemStorage.slot(slot).find(EnergyStorage.ITEM);
         if (energyStorage != null && energyStorage.supportsExtraction()) {
-            EnergyStorageUtil.move(energyStorage, this.energyStorage, this.energyStorage.externalInsertionRate(), null);
+            StorageHelper.move(energyStorage, this.energyStorage, this.energyStorage.externalInsertionRate(), null);
         }
     }
 
@@ -186,7 +184,7 @@ protected void drainPowerToSlot(int slot) {
         if (this.energyStorage().isEmpty()) return;
         EnergyStorage energyStorage = this.itemStorage.slot(slot).find(EnergyStorage.ITEM);
         if (energyStorage != null && energyStorage.supportsInsertion()) {
-            EnergyStorageUtil.move(this.energyStorage, energyStorage, this.energyStorage.externalExtractionRate(), null);
+            StorageHelper.move(this.energyStorage, energyStorage, this.energyStorage.externalExtractionRate(), null);
         }
     }
 
@@ -72,6 +72,19 @@ static Config loadFrom(File file) {
      */
     void getFluidUnits(FluidUnits units);
 
+    /**
+     * {@return the number of bytes per second each player may receive for menu synchronization, or 0 for no limit}
+     * Only {@link dev.galacticraft.machinelib.api.menu.SyncRate#REALTIME realtime} data is sent once the limit is reached.
+     */
+    int menuSyncBandwidth();
+
+    /**
+     * Sets the number of bytes per second each player may receive for menu synchronization.
+     *
+     * @param bandwidth the bandwidth in bytes per second, or 0 for no limit
+     */
+    void setMenuSyncBandwidth(int bandwidth);
+
     /**
      * Copies the state of the provided config into this config.
      *
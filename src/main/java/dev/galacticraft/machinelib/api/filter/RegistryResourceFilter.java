@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.api.filter;
+
+import net.minecraft.core.Registry;
+import net.minecraft.core.component.DataComponentPatch;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.function.Consumer;
+
+/**
+ * A resource filter that only depends on the type of resource (never its components).
+ * These filters are compiled into a set of matching registry ids, so they can be tested in constant time
+ * and inspected (e.g. to index resources or to display the accepted resources in recipe viewers).
+ * <p>
+ * Created by {@link ResourceFilters#itemTag(net.minecraft.tags.TagKey)}, {@link ResourceFilters#fluidTag(net.minecraft.tags.TagKey)},
+ * {@link ResourceFilters#ofResource(Object)} and the combinators in {@link ResourceFilters} (when applied to registry filters).
+ * The matching ids are recomputed whenever tags are reloaded.
+ *
+ * @param <Resource> the type of resource being filtered
+ */
+public interface RegistryResourceFilter<Resource> extends ResourceFilter<Resource> {
+    /**
+     * {@return the registry the resources of this filter are contained in}
+     */
+    @Contract(pure = true)
+    @NotNull Registry<Resource> registry();
+
+    /**
+     * {@return whether the filter accepts the given resource} Components are ignored.
+     *
+     * @param resource the resource to test. Can be {@code null}.
+     */
+    boolean test(@Nullable Resource resource);
+
+    /**
+     * {@return a copy of the set of raw registry ids that pass this filter}
+     */
+    @NotNull BitSet matchingIds();
+
+    /**
+     * Calls the given consumer for every resource that passes this filter.
+     *
+     * @param consumer the consumer to call
+     */
+    void forEachMatching(@NotNull Consumer<Resource> consumer);
+
+    @Override
+    default boolean test(@Nullable Resource resource, @NotNull DataComponentPatch components) {
+        return this.test(resource);
+    }
+}
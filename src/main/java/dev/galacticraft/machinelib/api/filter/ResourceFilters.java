@@ -22,6 +22,8 @@
 
 package dev.galacticraft.machinelib.api.filter;
 
+import dev.galacticraft.machinelib.impl.filter.CachingResourceFilter;
+import dev.galacticraft.machinelib.impl.filter.CompiledResourceFilter;
 import net.fabricmc.fabric.api.lookup.v1.item.ItemApiLookup;
 import net.fabricmc.fabric.api.transfer.v1.context.ContainerItemContext;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
@@ -31,7 +33,9 @@
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.fabricmc.fabric.api.transfer.v1.storage.StorageView;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.minecraft.core.Registry;
 import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.level.material.Fluid;
@@ -47,7 +51,7 @@ public final class ResourceFilters {
     /**
      * A filter that determines if an item can have energy extracted from it.
      */
-    public static final ResourceFilter<Item> CAN_EXTRACT_ENERGY = (item, components) -> {
+    public static final ResourceFilter<Item> CAN_EXTRACT_ENERGY = cached((item, components) -> {
         if (item == null) return false;
         EnergyStorage storage = ContainerItemContext.withConstant(ItemVariant.of(item, components), 1).find(EnergyStorage.ITEM);
         if (storage == null || !storage.supportsExtraction()) return false;
@@ -55,12 +59,12 @@ public final class ResourceFilters {
             if (storage.extract(1, test) == 1) return true;
         }
         return false;
-    };
+    });
 
     /**
      * A filter that determines if an item can have energy inserted into it.
      */
-    public static final ResourceFilter<Item> CAN_INSERT_ENERGY = (item, components) -> {
+    public static final ResourceFilter<Item> CAN_INSERT_ENERGY = cached((item, components) -> {
         if (item == null) return false;
         EnergyStorage storage = ContainerItemContext.withConstant(ItemVariant.of(item, components), 1).find(EnergyStorage.ITEM);
         if (storage == null || !storage.supportsInsertion()) return false;
@@ -68,7 +72,7 @@ public final class ResourceFilters {
             if (storage.insert(1, test) == 1) return true;
         }
         return false;
-    };
+    });
 
     /**
      * A constant filter that matches any resource.
@@ -112,12 +116,14 @@ private ResourceFilters() {
      */
     @Contract(pure = true)
     public static <Resource> @NotNull ResourceFilter<Resource> ofResource(@NotNull Resource resource, @Nullable DataComponentPatch components) {
-        return (r, t) -> r == resource && (components == null || components.equals(t));
+        if (components == null) return ofResource(resource);
+        return (r, t) -> r == resource && components.equals(t);
     }
 
     /**
      * Creates a resource filter based on the given resource.
      * The filter will check if the resource is equal to the given resource and will accept any components.
+     * Items and fluids produce a {@link RegistryResourceFilter}.
      *
      * @param resource The resource to match.
      * @param <Resource> The type of the resource being filtered.
@@ -125,19 +131,22 @@ private ResourceFilters() {
      */
     @Contract(pure = true)
     public static <Resource> @NotNull ResourceFilter<Resource> ofResource(@NotNull Resource resource) {
+        Registry<Resource> registry = registryOf(resource);
+        if (registry != null) return new CompiledResourceFilter.Single<>(registry, resource);
         return (r, components) -> r == resource;
     }
 
     /**
      * Creates a resource filter based on the given item tag.
      * The filter will check if the item has the given tag and will accept any components.
+     * The returned filter is a {@link RegistryResourceFilter}.
      *
      * @param tag The item tag to match.
      * @return A resource filter that checks the item is contained in the given tag.
      */
     @Contract(pure = true)
     public static @NotNull ResourceFilter<Item> itemTag(@NotNull TagKey<Item> tag) {
-        return (r, components) -> r != null && r.builtInRegistryHolder().is(tag);
+        return new CompiledResourceFilter.Tag<>(BuiltInRegistries.ITEM, tag);
     }
 
     /**
@@ -151,19 +160,22 @@ private ResourceFilters() {
      */
     @Contract(pure = true)
     public static @NotNull ResourceFilter<Item> itemTag(@NotNull TagKey<Item> tag, @Nullable DataComponentPatch components) {
-        return (r, componentsC) -> r != null && r.builtInRegistryHolder().is(tag) && (components == null || components.equals(componentsC));
+        RegistryResourceFilter<Item> filter = new CompiledResourceFilter.Tag<>(BuiltInRegistries.ITEM, tag);
+        if (components == null) return filter;
+        return (r, componentsC) -> filter.test(r) && components.equals(componentsC);
     }
 
     /**
      * Creates a resource filter based on the given fluid tag.
      * The filter will check if the fluid is contained in the given tag.
+     * The returned filter is a {@link RegistryResourceFilter}.
      *
      * @param tag The fluid tag to match.
      * @return A resource filter that checks if the fluid is contained in the given tag.
      */
     @Contract(pure = true)
     public static @NotNull ResourceFilter<Fluid> fluidTag(@NotNull TagKey<Fluid> tag) {
-        return (r, components) -> r != null && r.builtInRegistryHolder().is(tag);
+        return new CompiledResourceFilter.Tag<>(BuiltInRegistries.FLUID, tag);
     }
 
     /**
@@ -176,7 +188,9 @@ private ResourceFilters() {
      */
     @Contract(pure = true)
     public static @NotNull ResourceFilter<Fluid> fluidTag(@NotNull TagKey<Fluid> tag, @Nullable DataComponentPatch components) {
-        return (r, componentsC) -> r != null && r.builtInRegistryHolder().is(tag) && (components == null || components.equals(componentsC));
+        RegistryResourceFilter<Fluid> filter = new CompiledResourceFilter.Tag<>(BuiltInRegistries.FLUID, tag);
+        if (components == null) return filter;
+        return (r, componentsC) -> filter.test(r) && components.equals(componentsC);
     }
 
     /**
@@ -188,10 +202,10 @@ private ResourceFilters() {
      */
     @Contract(pure = true)
     public static @NotNull ResourceFilter<Item> providesApi(ItemApiLookup<?, ContainerItemContext> apiLookup) {
-        return (r, components) -> {
+        return cached((r, components) -> {
             if (r == null) return false;
             return ContainerItemContext.withConstant(ItemVariant.of(r, components), 1).find(apiLookup) != null;
-        };
+        });
     }
 
     /**
@@ -202,7 +216,7 @@ private ResourceFilters() {
      */
     @Contract(pure = true)
     public static @NotNull ResourceFilter<Item> canExtractFluid(@NotNull Fluid fluid) {
-        return (r, components) -> {
+        return cached((r, components) -> {
             if (r == null) return false;
             Storage<FluidVariant> storage = ContainerItemContext.withConstant(ItemVariant.of(r, components), 1).find(FluidStorage.ITEM);
             if (storage == null || !storage.supportsExtraction()) return false;
@@ -212,7 +226,7 @@ private ResourceFilters() {
                 }
             }
             return false;
-        };
+        });
     }
 
     /**
@@ -224,7 +238,7 @@ private ResourceFilters() {
      */
     @Contract(pure = true)
     public static @NotNull ResourceFilter<Item> canExtractFluid(@NotNull Fluid fluid, @Nullable DataComponentPatch components) {
-        return (r, componentsC) -> {
+        return cached((r, componentsC) -> {
             if (r == null) return false;
             Storage<FluidVariant> storage = ContainerItemContext.withConstant(ItemVariant.of(r, componentsC), 1).find(FluidStorage.ITEM);
             if (storage == null || !storage.supportsExtraction()) return false;
@@ -234,7 +248,7 @@ private ResourceFilters() {
                 }
             }
             return false;
-        };
+        });
     }
 
     /**
@@ -245,7 +259,7 @@ private ResourceFilters() {
      */
     @Contract(pure = true)
     public static @NotNull ResourceFilter<Item> canExtractFluid(@NotNull TagKey<Fluid> tag) {
-        return (r, components) -> {
+        return cached((r, components) -> {
             if (r == null) return false;
             Storage<FluidVariant> storage = ContainerItemContext.withConstant(ItemVariant.of(r, components), 1).find(FluidStorage.ITEM);
             if (storage == null || !storage.supportsExtraction()) return false;
@@ -260,7 +274,7 @@ private ResourceFilters() {
                 }
             }
             return false;
-        };
+        });
     }
 
     /**
@@ -271,7 +285,7 @@ private ResourceFilters() {
      */
     @Contract(pure = true)
     public static @NotNull ResourceFilter<Item> canInsertFluid(@NotNull Fluid fluid) {
-        return (r, components) -> {
+        return cached((r, components) -> {
             if (r == null) return false;
             Storage<FluidVariant> storage = ContainerItemContext.withConstant(ItemVariant.of(r, components), 1).find(FluidStorage.ITEM);
             if (storage == null || !storage.supportsInsertion()) return false;
@@ -281,7 +295,7 @@ private ResourceFilters() {
                 }
             }
             return false;
-        };
+        });
     }
 
     /**
@@ -293,7 +307,7 @@ private ResourceFilters() {
      */
     @Contract(pure = true)
     public static @NotNull ResourceFilter<Item> canInsertFluid(@NotNull Fluid fluid, @Nullable DataComponentPatch components) {
-        return (r, componentsC) -> {
+        return cached((r, componentsC) -> {
             if (r == null) return false;
             Storage<FluidVariant> storage = ContainerItemContext.withConstant(ItemVariant.of(r, componentsC), 1).find(FluidStorage.ITEM);
             if (storage == null || !storage.supportsInsertion()) return false;
@@ -303,7 +317,7 @@ private ResourceFilters() {
                 }
             }
             return false;
-        };
+        });
     }
 
     /**
@@ -325,35 +339,73 @@ private ResourceFilters() {
         return (ResourceFilter<Resource>) NONE;
     }
 
+    /**
+     * Creates a resource filter that memoizes the results of the given filter per resource and components.
+     * Results are discarded when tags are reloaded.
+     * Only use this for filters that are expensive to evaluate and whose result only depends on the resource and its components.
+     *
+     * @param filter The filter to cache.
+     * @param <Resource> The type of resource to be filtered.
+     * @return A resource filter that caches the results of the given filter.
+     */
+    @Contract("_ -> new")
+    public static <Resource> @NotNull ResourceFilter<Resource> cached(@NotNull ResourceFilter<Resource> filter) {
+        return new CachingResourceFilter<>(filter);
+    }
+
     /**
      * {@return a resource filter that rejects resources that pass the given filter}
+     * Inverting a {@link RegistryResourceFilter} produces another registry filter.
      *
      * @param filter The filter to apply.
      * @param <Resource> The type of resource to be filtered.
      */
     public static <Resource> @NotNull ResourceFilter<Resource> not(ResourceFilter<Resource> filter) {
+        if (filter instanceof CompiledResourceFilter<Resource> compiled) {
+            return new CompiledResourceFilter.Not<>(compiled);
+        }
         return (resource, components) -> !filter.test(resource, components);
     }
 
     /**
      * {@return a resource filter that applies two filters to a resource, and only accepts resources that pass both filters}
+     * Combining two registry filters of the same registry produces another {@link RegistryResourceFilter}.
      *
      * @param a The first filter to apply.
      * @param b The second filter to apply.
      * @param <Resource> The type of resource to be filtered.
      */
     public static <Resource> @NotNull ResourceFilter<Resource> and(ResourceFilter<Resource> a, ResourceFilter<Resource> b) {
+        if (a instanceof CompiledResourceFilter<Resource> ca && b instanceof CompiledResourceFilter<Resource> cb && ca.registry() == cb.registry()) {
+            return new CompiledResourceFilter.And<>(ca, cb);
+        }
         return (resource, components) -> a.test(resource, components) && b.test(resource, components);
     }
 
     /**
      * {@return a resource filter that applies both filters to a resource, and accepts resources that pass either of the filters}
+     * Combining two registry filters of the same registry produces another {@link RegistryResourceFilter}.
      *
      * @param a The first filter to apply.
      * @param b The second filter to apply.
      * @param <Resource> The type of resource to be filtered.
      */
     public static <Resource> @NotNull ResourceFilter<Resource> or(ResourceFilter<Resource> a, ResourceFilter<Resource> b) {
+        if (a instanceof CompiledResourceFilter<Resource> ca && b instanceof CompiledResourceFilter<Resource> cb && ca.registry() == cb.registry()) {
+            return new CompiledResourceFilter.Or<>(ca, cb);
+        }
         return (resource, components) -> a.test(resource, components) || b.test(resource, components);
     }
+
+    /**
+     * {@return the registry containing the given resource, or {@code null} if it is not an item or fluid}
+     *
+     * @param resource the resource to find the registry of
+     */
+    @SuppressWarnings("unchecked")
+    private static <Resource> @Nullable Registry<Resource> registryOf(@NotNull Resource resource) {
+        if (resource instanceof Item) return (Registry<Resource>) BuiltInRegistries.ITEM;
+        if (resource instanceof Fluid) return (Registry<Resource>) BuiltInRegistries.FLUID;
+        return null;
+    }
 }
@@ -29,7 +29,9 @@
 import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
 import dev.galacticraft.machinelib.api.transfer.ResourceType;
 import dev.galacticraft.machinelib.api.util.BlockFace;
+import dev.galacticraft.machinelib.impl.Constant;
 import io.netty.buffer.ByteBuf;
+import net.minecraft.core.Direction;
 import net.minecraft.nbt.ByteTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -77,6 +79,25 @@ public IOFace get(@NotNull BlockFace face) {
         return this.faces[face.ordinal()];
     }
 
+    /**
+     * {@return a bitmask of the directions whose face accepts the given resource type and flow}
+     * Bit {@code n} is set when the face pointing in the direction with ordinal {@code n} matches.
+     *
+     * @param facing the rotation of the machine
+     * @param type the resource type the face must accept
+     * @param flow the flow the face must allow
+     */
+    public int getDirections(@NotNull Direction facing, @NotNull ResourceType type, @NotNull ResourceFlow flow) {
+        int mask = 0;
+        for (Direction direction : Constant.Cache.DIRECTIONS) {
+            IOFace face = this.get(BlockFace.from(facing, direction));
+            if (face.getType().willAcceptResource(type) && face.getFlow().canFlowIn(flow)) {
+                mask |= 1 << direction.ordinal();
+            }
+        }
+        return mask;
+    }
+
     @Override
     public @NotNull ListTag createTag() {
         ListTag nbt = new ListTag();
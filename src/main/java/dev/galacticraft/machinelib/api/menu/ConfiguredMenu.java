@@ -129,10 +129,10 @@ public void registerData(@NotNull MenuData data) {
         super.registerData(data);
 
         data.register(this.configuration);
-        data.register(this.security);
-        data.register(this.state);
+        data.register(this.security, SyncRate.SLOW);
+        data.register(this.state, SyncRate.NORMAL);
 
-        data.registerEnum(RedstoneMode.values(), () -> this.redstoneMode, mode -> this.redstoneMode = mode);
+        data.registerEnum(RedstoneMode.values(), this.be::getRedstoneMode, mode -> this.redstoneMode = mode);
     }
 
     /**
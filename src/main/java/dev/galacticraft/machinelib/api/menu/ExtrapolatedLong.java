@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.api.menu;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A value that changes at a known rate, so that it can be extrapolated between synchronizations.
+ * <p>
+ * The server only synchronizes the value when its rate changes or when it differs from the extrapolation,
+ * so steadily changing values (such as recipe progress or energy) can animate smoothly without being sent every tick.
+ * Each synchronization corrects the extrapolated value.
+ *
+ * @see MenuData#registerExtrapolated(LongSupplier, LongSupplier, ExtrapolatedLong)
+ */
+public final class ExtrapolatedLong {
+    /**
+     * Provides the current time, in ticks.
+     */
+    private final LongSupplier clock;
+    /**
+     * The value at {@link #time}.
+     */
+    private long value = 0;
+    /**
+     * The change in value per tick.
+     */
+    private long rate = 0;
+    /**
+     * The time the value was last set at.
+     */
+    private long time = 0;
+
+    /**
+     * Creates a new extrapolated value.
+     *
+     * @param clock provides the current time, in ticks (e.g. the level's game time)
+     */
+    public ExtrapolatedLong(@NotNull LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Sets the value at the current time.
+     *
+     * @param value the current value
+     * @param rate the change in value per tick
+     */
+    public void set(long value, long rate) {
+        this.value = value;
+        this.rate = rate;
+        this.time = this.clock.getAsLong();
+    }
+
+    /**
+     * {@return the extrapolated value at the current time}
+     */
+    public long get() {
+        return this.value + this.rate * (this.clock.getAsLong() - this.time);
+    }
+
+    /**
+     * {@return the change in value per tick}
+     */
+    @Contract(pure = true)
+    public long getRate() {
+        return this.rate;
+    }
+
+    /**
+     * {@return the current time, in ticks}
+     */
+    public long getTime() {
+        return this.clock.getAsLong();
+    }
+}
@@ -57,6 +57,21 @@
      */
     public final @NotNull MachineEnergyStorage energyStorage;
 
+    /**
+     * The energy stored in the machine, extrapolated from the average energy flow on the client
+     */
+    private final ExtrapolatedLong energy = new ExtrapolatedLong(() -> this.player.level().getGameTime());
+
+    /**
+     * The average energy inserted into the machine per tick, as synchronized from the server
+     */
+    private float averageEnergyInsertion = 0;
+
+    /**
+     * The average energy extracted from the machine per tick, as synchronized from the server
+     */
+    private float averageEnergyExtraction = 0;
+
     /**
      * Constructs a new menu for a machine.
      * Called on the logical server
@@ -112,8 +127,37 @@ public void registerData(@NotNull MenuData data) {
         super.registerData(data);
 
         data.register(this.itemStorage);
-        data.register(this.fluidStorage);
-        data.register(this.energyStorage);
+        data.register(this.fluidStorage, SyncRate.NORMAL);
+        // the amount is extrapolated, so the storage itself only needs to be accurate for non-visual uses
+        data.register(this.energyStorage, SyncRate.SLOW);
+        data.registerExtrapolated(this.energyStorage::getAmount, () -> Math.round(this.energyStorage.averageInsertion() - this.energyStorage.averageExtraction()), this.energy, SyncRate.NORMAL);
+        data.registerFloat(() -> (float) this.energyStorage.averageInsertion(), value -> this.averageEnergyInsertion = value, SyncRate.SLOW);
+        data.registerFloat(() -> (float) this.energyStorage.averageExtraction(), value -> this.averageEnergyExtraction = value, SyncRate.SLOW);
+    }
+
+    /**
+     * {@return the energy stored in the machine, extrapolated between synchronizations} Only available on the client.
+     */
+    public long getEnergyAmount() {
+        return Math.clamp(this.energy.get(), 0, this.energyStorage.getCapacity());
+    }
+
+    /**
+     * {@return the average energy inserted into the machine per tick} Only available on the client.
+     *
+     * @see MachineEnergyStorage#averageInsertion()
+     */
+    public float getAverageEnergyInsertion() {
+        return this.averageEnergyInsertion;
+    }
+
+    /**
+     * {@return the average energy extracted from the machine per tick} Only available on the client.
+     *
+     * @see MachineEnergyStorage#averageExtraction()
+     */
+    public float getAverageEnergyExtraction() {
+        return this.averageEnergyExtraction;
     }
 
     /**
@@ -63,6 +63,17 @@ protected MenuData(int syncId) {
      * @param <T> the type of the data
      */
     public <T> void register(@NotNull DeltaPacketSerializable<? super RegistryFriendlyByteBuf, T> datum) {
+        this.register(datum, SyncRate.REALTIME);
+    }
+
+    /**
+     * Registers a new piece of data to be synchronized at the given rate.
+     *
+     * @param datum the data to be synchronized
+     * @param rate how often the data is synchronized
+     * @param <T> the type of the data
+     */
+    public <T> void register(@NotNull DeltaPacketSerializable<? super RegistryFriendlyByteBuf, T> datum, @NotNull SyncRate rate) {
         this.data.add(datum);
     }
 
@@ -75,7 +86,20 @@ public <T> void register(@NotNull DeltaPacketSerializable<? super RegistryFriend
      * @param <T> the type of the data
      */
     public <T> void register(StreamCodec<? super RegistryFriendlyByteBuf, T> codec, Supplier<T> getter, Consumer<T> setter) {
-        this.register(new StreamCodecPacketSerializable<>(codec, getter, setter));
+        this.register(codec, getter, setter, SyncRate.REALTIME);
+    }
+
+    /**
+     * Registers an immutable codec-serializable piece of data to be synchronized.
+     *
+     * @param codec the codec to serialize the data
+     * @param getter provides the current value of the data
+     * @param setter sets the value of the data
+     * @param rate how often the data is synchronized
+     * @param <T> the type of the data
+     */
+    public <T> void register(StreamCodec<? super RegistryFriendlyByteBuf, T> codec, Supplier<T> getter, Consumer<T> setter, @NotNull SyncRate rate) {
+        this.register(new StreamCodecPacketSerializable<>(codec, getter, setter), rate);
     }
 
     /**
@@ -85,7 +109,18 @@ public <T> void register(StreamCodec<? super RegistryFriendlyByteBuf, T> codec,
      * @param setter sets the value of the data
      */
     public void registerBoolean(BooleanSupplier getter, BooleanConsumer setter) {
-        this.register(new BytePacketSerializable(() -> getter.getAsBoolean() ? 1 : 0, b -> setter.accept(b != 0)));
+        this.registerBoolean(getter, setter, SyncRate.REALTIME);
+    }
+
+    /**
+     * Registers a byte field to be synchronized.
+     *
+     * @param getter provides the current value of the data
+     * @param setter sets the value of the data
+     * @param rate how often the data is synchronized
+     */
+    public void registerBoolean(BooleanSupplier getter, BooleanConsumer setter, @NotNull SyncRate rate) {
+        this.register(new BytePacketSerializable(() -> getter.getAsBoolean() ? 1 : 0, b -> setter.accept(b != 0)), rate);
     }
 
     /**
@@ -95,7 +130,18 @@ public void registerBoolean(BooleanSupplier getter, BooleanConsumer setter) {
      * @param setter sets the value of the data
      */
     public void registerByte(IntSupplier getter, IntConsumer setter) {
-        this.register(new BytePacketSerializable(getter, setter));
+        this.registerByte(getter, setter, SyncRate.REALTIME);
+    }
+
+    /**
+     * Registers a byte field to be synchronized.
+     *
+     * @param getter provides the current value of the data
+     * @param setter sets the value of the data
+     * @param rate how often the data is synchronized
+     */
+    public void registerByte(IntSupplier getter, IntConsumer setter, @NotNull SyncRate rate) {
+        this.register(new BytePacketSerializable(getter, setter), rate);
     }
 
     /**
@@ -105,7 +151,18 @@ public void registerByte(IntSupplier getter, IntConsumer setter) {
      * @param setter sets the value of the data
      */
     public void registerShort(IntSupplier getter, IntConsumer setter) {
-        this.register(new ShortPacketSerializable(getter, setter));
+        this.registerShort(getter, setter, SyncRate.REALTIME);
+    }
+
+    /**
+     * Registers a short field to be synchronized.
+     *
+     * @param getter provides the current value of the data
+     * @param setter sets the value of the data
+     * @param rate how often the data is synchronized
+     */
+    public void registerShort(IntSupplier getter, IntConsumer setter, @NotNull SyncRate rate) {
+        this.register(new ShortPacketSerializable(getter, setter), rate);
     }
 
     /**
@@ -115,7 +172,18 @@ public void registerShort(IntSupplier getter, IntConsumer setter) {
      * @param setter sets the value of the data
      */
     public void registerInt(IntSupplier getter, IntConsumer setter) {
-        this.register(new IntPacketSerializable(getter, setter));
+        this.registerInt(getter, setter, SyncRate.REALTIME);
+    }
+
+    /**
+     * Registers an integer field to be synchronized.
+     *
+     * @param getter provides the current value of the data
+     * @param setter sets the value of the data
+     * @param rate how often the data is synchronized
+     */
+    public void registerInt(IntSupplier getter, IntConsumer setter, @NotNull SyncRate rate) {
+        this.register(new IntPacketSerializable(getter, setter), rate);
     }
 
     /**
@@ -125,7 +193,18 @@ public void registerInt(IntSupplier getter, IntConsumer setter) {
      * @param setter sets the value of the data
      */
     public void registerLong(LongSupplier getter, LongConsumer setter) {
-        this.register(new LongPacketSerializable(getter, setter));
+        this.registerLong(getter, setter, SyncRate.REALTIME);
+    }
+
+    /**
+     * Registers a long field to be synchronized.
+     *
+     * @param getter provides the current value of the data
+     * @param setter sets the value of the data
+     * @param rate how often the data is synchronized
+     */
+    public void registerLong(LongSupplier getter, LongConsumer setter, @NotNull SyncRate rate) {
+        this.register(new LongPacketSerializable(getter, setter), rate);
     }
 
     /**
@@ -135,7 +214,18 @@ public void registerLong(LongSupplier getter, LongConsumer setter) {
      * @param setter sets the value of the data
      */
     public void registerFloat(FloatSupplier getter, FloatConsumer setter) {
-        this.register(new FloatPacketSerializable(getter, setter));
+        this.registerFloat(getter, setter, SyncRate.REALTIME);
+    }
+
+    /**
+     * Registers a float field to be synchronized.
+     *
+     * @param getter provides the current value of the data
+     * @param setter sets the value of the data
+     * @param rate how often the data is synchronized
+     */
+    public void registerFloat(FloatSupplier getter, FloatConsumer setter, @NotNull SyncRate rate) {
+        this.register(new FloatPacketSerializable(getter, setter), rate);
     }
 
     /**
@@ -145,7 +235,18 @@ public void registerFloat(FloatSupplier getter, FloatConsumer setter) {
      * @param setter sets the value of the data
      */
     public void registerDouble(DoubleSupplier getter, DoubleConsumer setter) {
-        this.register(new DoublePacketSerializable(getter, setter));
+        this.registerDouble(getter, setter, SyncRate.REALTIME);
+    }
+
+    /**
+     * Registers a double field to be synchronized.
+     *
+     * @param getter provides the current value of the data
+     * @param setter sets the value of the data
+     * @param rate how often the data is synchronized
+     */
+    public void registerDouble(DoubleSupplier getter, DoubleConsumer setter, @NotNull SyncRate rate) {
+        this.register(new DoublePacketSerializable(getter, setter), rate);
     }
 
     /**
@@ -157,7 +258,20 @@ public void registerDouble(DoubleSupplier getter, DoubleConsumer setter) {
      * @param <E> the type of the enum
      */
     public <E extends Enum<E>> void registerEnum(E[] world, Supplier<E> getter, Consumer<E> setter) {
-        this.register(new EnumPacketSerializable<>(world, getter, setter));
+        this.registerEnum(world, getter, setter, SyncRate.REALTIME);
+    }
+
+    /**
+     * Registers an enum field to be synchronized.
+     *
+     * @param world the enum values
+     * @param getter provides the current value of the data
+     * @param setter sets the value of the data
+     * @param rate how often the data is synchronized
+     * @param <E> the type of the enum
+     */
+    public <E extends Enum<E>> void registerEnum(E[] world, Supplier<E> getter, Consumer<E> setter, @NotNull SyncRate rate) {
+        this.register(new EnumPacketSerializable<>(world, getter, setter), rate);
     }
 
     /**
@@ -167,7 +281,43 @@ public <E extends Enum<E>> void registerEnum(E[] world, Supplier<E> getter, Cons
      * @param dest the destination array
      */
     public void registerBits(int len, boolean[] source, boolean[] dest) {
-        this.register(new BitsPacketSerializable(len, source, dest));
+        this.registerBits(len, source, dest, SyncRate.REALTIME);
+    }
+
+    /**
+     * Registers an array of booleans to be synchronized.
+     *
+     * @param source the source array
+     * @param dest the destination array
+     * @param rate how often the data is synchronized
+     */
+    public void registerBits(int len, boolean[] source, boolean[] dest, @NotNull SyncRate rate) {
+        this.register(new BitsPacketSerializable(len, source, dest), rate);
+    }
+
+    /**
+     * Registers a value that is extrapolated on the client between synchronizations.
+     * The value is synchronized when its rate changes, or when it no longer matches the extrapolation.
+     *
+     * @param getter provides the current value of the data
+     * @param rate provides the current change in value per tick
+     * @param target the value to update on the client
+     */
+    public void registerExtrapolated(LongSupplier getter, LongSupplier rate, @NotNull ExtrapolatedLong target) {
+        this.registerExtrapolated(getter, rate, target, SyncRate.REALTIME);
+    }
+
+    /**
+     * Registers a value that is extrapolated on the client between synchronizations.
+     * The value is synchronized when its rate changes, or when it no longer matches the extrapolation.
+     *
+     * @param getter provides the current value of the data
+     * @param rate provides the current change in value per tick
+     * @param target the value to update on the client
+     * @param syncRate how often the data is checked against the extrapolation
+     */
+    public void registerExtrapolated(LongSupplier getter, LongSupplier rate, @NotNull ExtrapolatedLong target, @NotNull SyncRate syncRate) {
+        this.register(new ExtrapolatedPacketSerializable(getter, rate, target), syncRate);
     }
 
     @ApiStatus.Internal
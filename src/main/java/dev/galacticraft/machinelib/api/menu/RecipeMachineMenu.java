@@ -44,8 +44,9 @@
     /**
      * The amount of progress the machine has made in crafting a recipe.
      * Counts from zero to {@link #maxProgress}, if {@link #maxProgress} > 0.
+     * Extrapolated on the client while the machine is active.
      */
-    private int progress = 0;
+    private final ExtrapolatedLong progress = new ExtrapolatedLong(() -> this.player.level().getGameTime());
     /**
      * The number of ticks a machine must work before crafting something.
      * If zero, no recipe is active.
@@ -94,7 +95,7 @@ public RecipeMachineMenu(MenuType<? extends RecipeMachineMenu<I, R, Machine>> ty
     public void registerData(@NotNull MenuData data) {
         super.registerData(data);
 
-        data.registerInt(this.be::getProgress, this::setProgress);
+        data.registerExtrapolated(this.be::getProgress, () -> this.be.isActive() && this.be.getActiveRecipe() != null ? 1 : 0, this.progress);
         data.registerInt(() -> {
             RecipeHolder<R> recipe = this.be.getActiveRecipe();
             return recipe != null ? this.be.getProcessingTime(recipe) : 0;
@@ -105,16 +106,18 @@ public void registerData(@NotNull MenuData data) {
      * {@return the current progress of the machine}
      */
     public int getProgress() {
-        return this.progress;
+        long progress = this.progress.get();
+        return (int) (this.maxProgress > 0 ? Math.clamp(progress, 0, this.maxProgress) : progress);
     }
 
     /**
      * Sets the progress value of the machine.
+     * Stops extrapolating the progress until the next synchronization.
      *
      * @param progress The new progress value.
      */
     public void setProgress(int progress) {
-        this.progress = progress;
+        this.progress.set(progress, 0);
     }
 
     /**
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.api.menu;
+
+import org.jetbrains.annotations.Contract;
+
+/**
+ * How often a piece of {@link MenuData menu data} is synchronized to the client.
+ * <p>
+ * Rates are also priorities: when a player's menu sync bandwidth is exhausted,
+ * changes to {@link #NORMAL} and {@link #SLOW} data are deferred until there is room again.
+ * {@link #REALTIME} data is never deferred.
+ */
+public enum SyncRate {
+    /**
+     * Checked every tick and never deferred.
+     * Use this for values that visibly animate, such as progress bars.
+     */
+    REALTIME(1),
+    /**
+     * Checked every 4 ticks.
+     * Use this for values that change often but don't need to be exact, such as energy or fluid amounts.
+     */
+    NORMAL(4),
+    /**
+     * Checked once per second.
+     * Use this for values that rarely change, such as security settings.
+     */
+    SLOW(20);
+
+    /**
+     * The rates, in order of priority.
+     */
+    public static final SyncRate[] VALUES = SyncRate.values();
+
+    /**
+     * The number of ticks between checks.
+     */
+    private final int interval;
+
+    SyncRate(int interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * {@return the number of ticks between checks for changes}
+     */
+    @Contract(pure = true)
+    public int interval() {
+        return this.interval;
+    }
+}
@@ -84,7 +84,7 @@ public SynchronizedMenu(MenuType<? extends SynchronizedMenu<BE>> type, int syncI
         assert player instanceof ServerPlayer;
 
         this.be = be;
-        this.data = new MenuDataImpl((ServerPlayer) player, syncId);
+        this.data = new MenuDataImpl((ServerPlayer) player, syncId, type, be.getMenuSyncHub());
 
         this.player = player;
         this.playerInventory = player.getInventory();
@@ -136,6 +136,14 @@ public void broadcastChanges() {
         this.data.synchronize();
     }
 
+    @Override
+    public void removed(Player player) {
+        super.removed(player);
+        if (this.data instanceof MenuDataImpl impl) {
+            impl.close();
+        }
+    }
+
     @ApiStatus.Internal
     public MenuData getData() {
         return this.data;
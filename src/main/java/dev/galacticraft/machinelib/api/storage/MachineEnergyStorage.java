@@ -186,6 +186,22 @@ public interface MachineEnergyStorage extends EnergyStorage, Serializable<LongTa
      */
     void setEnergy(long amount);
 
+    /**
+     * {@return the average amount of energy inserted into this storage per tick, over the last second}
+     * Only tracked on the logical server. Transactional transfers are counted by their net change when committed.
+     */
+    default double averageInsertion() {
+        return 0;
+    }
+
+    /**
+     * {@return the average amount of energy extracted from this storage per tick, over the last second}
+     * Only tracked on the logical server. Transactional transfers are counted by their net change when committed.
+     */
+    default double averageExtraction() {
+        return 0;
+    }
+
     /**
      * {@return a new exposed energy storage}
      *
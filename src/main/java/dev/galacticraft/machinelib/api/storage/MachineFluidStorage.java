@@ -82,6 +82,7 @@ public Spec add(FluidResourceSlot.Spec slot) {
         }
 
         public MachineFluidStorage create() {
+            if (this.slots.isEmpty()) return empty();
             FluidResourceSlot[] slots1 = new FluidResourceSlot[this.slots.size()];
             for (int i = 0; i < this.slots.size(); i++) {
                 slots1[i] = this.slots.get(i).create();
@@ -70,6 +70,12 @@ final class Spec {
         private ResourceFilter<Fluid> filter = ResourceFilters.any();
         private long capacity = FluidConstants.BUCKET;
 
+        /**
+         * The display shared by every tank created from this spec (displays are immutable).
+         * Reset whenever a display property changes.
+         */
+        private @Nullable TankDisplay display = null;
+
         @Contract(pure = true)
         private Spec(@NotNull TransferType transferType) {
             this.transferType = transferType;
@@ -84,12 +90,14 @@ private Spec(@NotNull TransferType transferType) {
 
         @Contract(value = "-> this", mutates = "this")
         public @NotNull Spec hidden() {
+            this.display = null;
             this.hidden = true;
             return this;
         }
 
         @Contract(value = "-> this", mutates = "this")
         public @NotNull Spec unmarked() {
+            this.display = null;
             this.marked = false;
             return this;
         }
@@ -97,6 +105,7 @@ private Spec(@NotNull TransferType transferType) {
         @Contract(value = "_ -> this", mutates = "this")
         public @NotNull Spec x(int x) {
             if (this.hidden) throw new UnsupportedOperationException("hidden");
+            this.display = null;
             this.x = x;
             return this;
         }
@@ -104,6 +113,7 @@ private Spec(@NotNull TransferType transferType) {
         @Contract(value = "_ -> this", mutates = "this")
         public @NotNull Spec y(int y) {
             if (this.hidden) throw new UnsupportedOperationException("hidden");
+            this.display = null;
             this.y = y;
             return this;
         }
@@ -111,6 +121,7 @@ private Spec(@NotNull TransferType transferType) {
         @Contract(value = "_ -> this", mutates = "this")
         public @NotNull Spec width(int width) {
             if (this.hidden) throw new UnsupportedOperationException("hidden");
+            this.display = null;
             this.width = width;
             return this;
         }
@@ -118,6 +129,7 @@ private Spec(@NotNull TransferType transferType) {
         @Contract(value = "_ -> this", mutates = "this")
         public @NotNull Spec height(int height) {
             if (this.hidden) throw new UnsupportedOperationException("hidden");
+            this.display = null;
             this.height = height;
             return this;
         }
@@ -143,7 +155,11 @@ private Spec(@NotNull TransferType transferType) {
                     throw new UnsupportedOperationException("Display properties changed while hidden!");
             }
 
-            return FluidResourceSlot.create(this.transferType, this.hidden ? null : TankDisplay.create(this.x, this.y, this.width, this.height, this.marked), this.capacity, this.filter);
+            if (!this.hidden && this.display == null) {
+                this.display = TankDisplay.create(this.x, this.y, this.width, this.height, this.marked);
+            }
+
+            return FluidResourceSlot.create(this.transferType, this.hidden ? null : this.display, this.capacity, this.filter);
         }
     }
 }
@@ -140,6 +140,12 @@ final class Spec {
         private ResourceFilter<Item> filter = ResourceFilters.any();
         private int capacity = 64;
 
+        /**
+         * The display shared by every slot created from this spec (displays are immutable).
+         * Reset whenever a display property changes.
+         */
+        private @Nullable ItemSlotDisplay display = null;
+
         @Contract(pure = true)
         private Spec(TransferType transferType) {
             this.transferType = transferType;
@@ -148,6 +154,7 @@ private Spec(TransferType transferType) {
         @Contract("_, _ -> this")
         public @NotNull Spec pos(int x, int y) {
             if (this.hidden) throw new UnsupportedOperationException("hidden");
+            this.display = null;
             this.x = x;
             this.y = y;
             return this;
@@ -155,6 +162,7 @@ private Spec(TransferType transferType) {
 
         @Contract(value = "-> this", mutates = "this")
         public @NotNull Spec hidden() {
+            this.display = null;
             this.hidden = true;
             return this;
         }
@@ -162,6 +170,7 @@ private Spec(TransferType transferType) {
         @Contract(value = "_ -> this", mutates = "this")
         public @NotNull Spec x(int x) {
             if (this.hidden) throw new UnsupportedOperationException("hidden");
+            this.display = null;
             this.x = x;
             return this;
         }
@@ -169,6 +178,7 @@ private Spec(TransferType transferType) {
         @Contract(value = "_ -> this", mutates = "this")
         public @NotNull Spec y(int y) {
             if (this.hidden) throw new UnsupportedOperationException("hidden");
+            this.display = null;
             this.y = y;
             return this;
         }
@@ -176,6 +186,7 @@ private Spec(TransferType transferType) {
         @Contract(value = "_ -> this", mutates = "this")
         public @NotNull Spec icon(@Nullable Pair<ResourceLocation, ResourceLocation> icon) {
             if (this.hidden) throw new UnsupportedOperationException("hidden");
+            this.display = null;
             this.icon = icon;
             return this;
         }
@@ -200,7 +211,11 @@ private Spec(TransferType transferType) {
                     throw new UnsupportedOperationException("Display prop while hidden");
             }
 
-            return ItemResourceSlot.create(this.transferType, this.hidden ? null : ItemSlotDisplay.create(this.x, this.y, this.icon), this.filter, this.capacity);
+            if (!this.hidden && this.display == null) {
+                this.display = ItemSlotDisplay.create(this.x, this.y, this.icon);
+            }
+
+            return ItemResourceSlot.create(this.transferType, this.hidden ? null : this.display, this.filter, this.capacity);
         }
     }
 }
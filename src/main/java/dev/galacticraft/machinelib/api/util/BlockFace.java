@@ -68,6 +68,27 @@ public enum BlockFace implements StringRepresentable {
 
     public static final StreamCodec<ByteBuf, BlockFace> CODEC = ByteBufCodecs.BYTE.map(i -> values()[i], face -> (byte) face.ordinal());
 
+    /**
+     * The face for each direction, indexed by the 2D data value of the facing and the ordinal of the direction.
+     */
+    private static final BlockFace[][] FACES = new BlockFace[4][6];
+    /**
+     * The direction of each face, indexed by the 2D data value of the facing and the ordinal of the face.
+     */
+    private static final Direction[][] DIRECTIONS = new Direction[4][6];
+
+    static {
+        for (Direction facing : Direction.Plane.HORIZONTAL) {
+            int index = facing.get2DDataValue();
+            put(index, FRONT, facing);
+            put(index, RIGHT, facing.getClockWise());
+            put(index, BACK, facing.getOpposite());
+            put(index, LEFT, facing.getCounterClockWise());
+            put(index, TOP, Direction.UP);
+            put(index, BOTTOM, Direction.DOWN);
+        }
+    }
+
     private final String id;
     /**
      * The text of the face
@@ -110,48 +131,20 @@ public enum BlockFace implements StringRepresentable {
      * @return the face corresponding to the given direction and rotation
      */
     @Contract(pure = true, value = "_, null -> null; _, !null -> !null")
-    public static @Nullable BlockFace from(@NotNull Direction facing, @Nullable Direction target) { //todo: a better way to do this?
-        assert facing != Direction.UP && facing != Direction.DOWN;
-
+    public static @Nullable BlockFace from(@NotNull Direction facing, @Nullable Direction target) {
         if (target == null) return null;
+        return FACES[horizontalIndex(facing)][target.ordinal()];
+    }
 
-        if (target == Direction.DOWN) {
-            return BOTTOM;
-        } else if (target == Direction.UP) {
-            return TOP;
-        }
+    private static void put(int facing, BlockFace face, Direction direction) {
+        FACES[facing][direction.ordinal()] = face;
+        DIRECTIONS[facing][face.ordinal()] = direction;
+    }
 
-        return switch (facing) {
-            case NORTH -> switch (target) {
-                case NORTH -> FRONT;
-                case EAST -> RIGHT;
-                case SOUTH -> BACK;
-                case WEST -> LEFT;
-                default -> throw new IllegalStateException("Unexpected value: " + target);
-            };
-            case EAST -> switch (target) {
-                case EAST -> FRONT;
-                case NORTH -> LEFT;
-                case WEST -> BACK;
-                case SOUTH -> RIGHT;
-                default -> throw new IllegalStateException("Unexpected value: " + target);
-            };
-            case SOUTH -> switch (target) {
-                case SOUTH -> FRONT;
-                case WEST -> RIGHT;
-                case NORTH -> BACK;
-                case EAST -> LEFT;
-                default -> throw new IllegalStateException("Unexpected value: " + target);
-            };
-            case WEST -> switch (target) {
-                case WEST -> FRONT;
-                case SOUTH -> LEFT;
-                case EAST -> BACK;
-                case NORTH -> RIGHT;
-                default -> throw new IllegalStateException("Unexpected value: " + target);
-            };
-            default -> throw new IllegalStateException("Unexpected value: " + target);
-        };
+    private static int horizontalIndex(@NotNull Direction facing) {
+        int index = facing.get2DDataValue();
+        if (index < 0) throw new IllegalArgumentException("Machines cannot face " + facing);
+        return index;
     }
 
     /**
@@ -172,45 +165,7 @@ public Component getName() {
      */
     @Contract(pure = true)
     public @NotNull Direction toDirection(@NotNull Direction facing) {
-        assert facing != Direction.UP && facing != Direction.DOWN;
-
-        if (this == BOTTOM) {
-            return Direction.DOWN;
-        } else if (this == TOP) {
-            return Direction.UP;
-        }
-
-        return switch (facing) {
-            case NORTH -> switch (this) {
-                case FRONT -> Direction.NORTH;
-                case RIGHT -> Direction.EAST;
-                case BACK -> Direction.SOUTH;
-                case LEFT -> Direction.WEST;
-                default -> throw new IllegalStateException("Unexpected value: " + this);
-            };
-            case EAST -> switch (this) {
-                case RIGHT -> Direction.SOUTH;
-                case FRONT -> Direction.EAST;
-                case LEFT -> Direction.NORTH;
-                case BACK -> Direction.WEST;
-                default -> throw new IllegalStateException("Unexpected value: " + this);
-            };
-            case SOUTH -> switch (this) {
-                case BACK -> Direction.NORTH;
-                case LEFT -> Direction.EAST;
-                case FRONT -> Direction.SOUTH;
-                case RIGHT -> Direction.WEST;
-                default -> throw new IllegalStateException("Unexpected value: " + this);
-            };
-            case WEST -> switch (this) {
-                case LEFT -> Direction.SOUTH;
-                case BACK -> Direction.EAST;
-                case RIGHT -> Direction.NORTH;
-                case FRONT -> Direction.WEST;
-                default -> throw new IllegalStateException("Unexpected value: " + this);
-            };
-            default -> throw new IllegalStateException("Unexpected value: " + facing);
-        };
+        return DIRECTIONS[horizontalIndex(facing)][this.ordinal()];
     }
 
     /**
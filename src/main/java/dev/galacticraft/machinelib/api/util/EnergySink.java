@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.api.util;
+
+import dev.galacticraft.machinelib.api.block.entity.ConfiguredBlockEntity;
+import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
+import dev.galacticraft.machinelib.api.machine.configuration.IOConfig;
+import dev.galacticraft.machinelib.api.storage.MachineEnergyStorage;
+import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
+import dev.galacticraft.machinelib.api.transfer.ResourceType;
+import dev.galacticraft.machinelib.impl.Constant;
+import dev.galacticraft.machinelib.impl.util.TransferBackoff;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
+import team.reborn.energy.api.EnergyStorage;
+
+/**
+ * Pulls energy from the adjacent energy storages on a machine's input faces.
+ * <p>
+ * By default, up to the machine's {@link MachineEnergyStorage#externalInsertionRate() insertion rate}
+ * is pulled from each input face every tick. Neighbors that are empty or cannot be extracted from are skipped,
+ * and faces whose last transfer failed are skipped until either storage changes.
+ */
+public class EnergySink {
+    private final IOConfig config;
+    private final MachineEnergyStorage storage;
+    private final TransferSchedule schedule;
+    private final TransferBackoff backoff = new TransferBackoff(6);
+    private final @Nullable ConfiguredBlockEntity machine;
+    private AdjacentBlockApiCache<EnergyStorage> cache = null;
+
+    public EnergySink(IOConfig config, MachineEnergyStorage storage) {
+        this(config, storage, null);
+    }
+
+    public EnergySink(IOConfig config, MachineEnergyStorage storage, @Nullable TransferSettings settings) {
+        this.config = config;
+        this.storage = storage;
+        this.schedule = new TransferSchedule(settings);
+        this.machine = null;
+    }
+
+    public EnergySink(MachineBlockEntity machine) {
+        this(machine, null);
+    }
+
+    public EnergySink(MachineBlockEntity machine, @Nullable TransferSettings settings) {
+        this.config = machine.getIOConfig();
+        this.storage = machine.energyStorage();
+        this.schedule = new TransferSchedule(settings);
+        this.machine = machine;
+    }
+
+    /**
+     * {@return the transfer settings of this sink, or {@code null} if it pulls at the machine's insertion rate}
+     */
+    @Contract(pure = true)
+    public @Nullable TransferSettings getSettings() {
+        return this.schedule.settings();
+    }
+
+    public void tryPullEnergy(ServerLevel level, BlockPos pos, BlockState state) {
+        if (!this.schedule.tick()) return;
+        if (this.storage.isFull()) return;
+
+        int directions = this.machine != null
+                ? this.machine.getRoutedDirections(ResourceType.ENERGY, ResourceFlow.INPUT)
+                : this.config.getDirections(state.getValue(BlockStateProperties.HORIZONTAL_FACING), ResourceType.ENERGY, ResourceFlow.INPUT);
+        if (directions == 0) return;
+
+        if (this.cache == null) {
+            this.cache = this.machine != null ? this.machine.getNeighborCache().forLookup(EnergyStorage.SIDED) : AdjacentBlockApiCache.create(EnergyStorage.SIDED, level, pos);
+        }
+
+        long time = level.getGameTime();
+        long perFace = this.schedule.perFace(this.storage.externalInsertionRate());
+        long remaining = this.schedule.budget();
+        if (perFace == 0) return;
+
+        for (int i = 0; i < Constant.Cache.DIRECTIONS.length && remaining > 0; i++) {
+            Direction direction = this.schedule.face(i);
+            if ((directions & (1 << direction.ordinal())) != 0) {
+                EnergyStorage storage = this.cache.find(direction);
+                if (storage != null && storage.supportsExtraction() && storage.getAmount() > 0) {
+                    int index = direction.ordinal();
+                    if (this.backoff.shouldSkip(index, storage, this.storage, time)) continue;
+
+                    long moved = StorageHelper.move(storage, this.storage, Math.min(perFace, remaining), null);
+                    if (moved == 0) {
+                        this.backoff.recordFailure(index, storage, this.storage, time);
+                    } else {
+                        this.backoff.clear(index);
+                        remaining -= moved;
+                    }
+                }
+            }
+        }
+        this.schedule.rotate();
+    }
+}
@@ -22,50 +22,277 @@
 
 package dev.galacticraft.machinelib.api.util;
 
+import dev.galacticraft.machinelib.api.block.entity.ConfiguredBlockEntity;
 import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
 import dev.galacticraft.machinelib.api.machine.configuration.IOConfig;
-import dev.galacticraft.machinelib.api.machine.configuration.IOFace;
 import dev.galacticraft.machinelib.api.storage.MachineEnergyStorage;
 import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
 import dev.galacticraft.machinelib.api.transfer.ResourceType;
 import dev.galacticraft.machinelib.impl.Constant;
+import dev.galacticraft.machinelib.impl.storage.exposed.ExposedEnergyStorageImpl;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import team.reborn.energy.api.EnergyStorage;
-import team.reborn.energy.api.EnergyStorageUtil;
 
+import java.util.Arrays;
+
+/**
+ * Pushes energy from a machine into the adjacent energy storages on its output faces.
+ * <p>
+ * The adjacent storages are resolved once and reused until the connections of the machine change
+ * (see {@link ConfiguredBlockEntity#getConnectionsVersion()}) or its facing changes.
+ * A storage whose block entity is removed is dropped, and output faces without a storage are looked up again
+ * every {@value #RETRY_INTERVAL} ticks, or right away when a storage was dropped.
+ * When created without a machine, the storages are resolved again every tick.
+ * How energy is split between several storages is controlled by the {@link Distribution}.
+ * <p>
+ * Transfers into other MachineLib machines skip the transaction machinery entirely
+ * (see {@link StorageHelper#move(EnergyStorage, EnergyStorage, long, net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext)}),
+ * all other transfers of a tick share a single outer transaction.
+ */
 public class EnergySource {
+    /**
+     * The number of ticks between lookups of output faces that had no energy storage.
+     */
+    private static final int RETRY_INTERVAL = 20;
+
     private final IOConfig config;
     private final MachineEnergyStorage storage;
+    private final @Nullable ConfiguredBlockEntity machine;
+    private final @NotNull Distribution distribution;
     private AdjacentBlockApiCache<EnergyStorage> cache = null;
 
+    // the storages on the output faces, in direction order
+    private final @Nullable EnergyStorage[] targets = new EnergyStorage[6];
+    private final @Nullable BlockEntity[] targetEntities = new BlockEntity[6];
+    private final @Nullable Direction[] targetDirections = new Direction[6];
+    private int targetCount = 0;
+    // the output faces without a storage
+    private int missing = 0;
+    private long retryAt = 0;
+    private long connectionsVersion = -1;
+    private @Nullable Direction facing = null;
+
+    // scratch space for proportional distribution
+    private final long[] accepted = new long[6];
+    private final long[] shares = new long[6];
+    private int rotation = 0;
+
     public EnergySource(IOConfig config, MachineEnergyStorage storage) {
+        this(config, storage, Distribution.SEQUENTIAL);
+    }
+
+    public EnergySource(IOConfig config, MachineEnergyStorage storage, @NotNull Distribution distribution) {
         this.config = config;
         this.storage = storage;
+        this.machine = null;
+        this.distribution = distribution;
     }
 
     public EnergySource(MachineBlockEntity machine) {
+        this(machine, Distribution.SEQUENTIAL);
+    }
+
+    public EnergySource(MachineBlockEntity machine, @NotNull Distribution distribution) {
         this.config = machine.getIOConfig();
         this.storage = machine.energyStorage();
+        this.machine = machine;
+        this.distribution = distribution;
     }
 
     public void trySpreadEnergy(ServerLevel level, BlockPos pos, BlockState state) {
         if (this.cache == null) {
-            this.cache = AdjacentBlockApiCache.create(EnergyStorage.SIDED, level, pos);
+            this.cache = this.machine != null ? this.machine.getNeighborCache().forLookup(EnergyStorage.SIDED) : AdjacentBlockApiCache.create(EnergyStorage.SIDED, level, pos);
         }
 
+        if (this.storage.isEmpty()) return;
+
         Direction facing = state.getValue(BlockStateProperties.HORIZONTAL_FACING);
+        long time = level.getGameTime();
+        if (this.isOutdated(facing)) {
+            this.resolveTargets(facing, time);
+        } else {
+            this.refreshTargets(time);
+        }
+        if (this.targetCount == 0) return;
+
+        long rate = this.storage.externalExtractionRate();
+        if (this.distribution == Distribution.PROPORTIONAL && this.targetCount > 1) {
+            this.distributeProportionally(Math.min(rate, this.storage.getAmount()));
+        } else {
+            this.distributeSequentially(rate);
+        }
+    }
+
+    private void distributeSequentially(long rate) {
+        Transaction transaction = null;
+        try {
+            for (int i = 0; i < this.targetCount; i++) {
+                EnergyStorage target = this.targets[i];
+                // moves into other machines are only direct while no transaction is open
+                if (transaction == null && !(target instanceof ExposedEnergyStorageImpl || target instanceof MachineEnergyStorage)) {
+                    transaction = Transaction.openOuter();
+                }
+                StorageHelper.move(this.storage, target, rate, transaction);
+            }
+            if (transaction != null) transaction.commit();
+        } finally {
+            if (transaction != null) transaction.close();
+        }
+    }
+
+    private void distributeProportionally(long budget) {
+        if (budget == 0) return;
+
+        int count = this.targetCount;
+        long total = 0;
+        try (Transaction simulation = Transaction.openOuter()) {
+            for (int i = 0; i < count; i++) {
+                long accepted = this.targets[i].insert(budget, simulation);
+                this.accepted[i] = accepted;
+                total += accepted;
+            }
+        }
+        if (total == 0) return;
+
+        if (total > budget) {
+            // split the budget by how much each target can take, rounding down
+            long remainder = budget;
+            for (int i = 0; i < count; i++) {
+                long share = Math.min(this.accepted[i], scale(this.accepted[i], budget, total));
+                this.shares[i] = share;
+                remainder -= share;
+            }
+
+            // hand out what was lost to rounding one unit at a time, starting at a different target each tick
+            for (int i = 0; i < count && remainder > 0; i++) {
+                int target = (this.rotation + i) % count;
+                if (this.shares[target] < this.accepted[target]) {
+                    this.shares[target]++;
+                    remainder--;
+                }
+            }
+            this.rotation = (this.rotation + 1) % count;
+        } else {
+            System.arraycopy(this.accepted, 0, this.shares, 0, count);
+        }
+
+        try (Transaction transaction = Transaction.openOuter()) {
+            for (int i = 0; i < count; i++) {
+                if (this.shares[i] > 0) {
+                    long inserted = this.targets[i].insert(this.shares[i], transaction);
+                    if (this.storage.extract(inserted, transaction) != inserted) return;
+                }
+            }
+            transaction.commit();
+        }
+    }
+
+    /**
+     * {@return {@code value * numerator / denominator}, rounded down}
+     */
+    private static long scale(long value, long numerator, long denominator) {
+        if (Math.multiplyHigh(value, numerator) == 0 && value * numerator >= 0) {
+            return value * numerator / denominator;
+        }
+        return (long) ((double) value / denominator * numerator);
+    }
+
+    private boolean isOutdated(Direction facing) {
+        return this.machine == null || this.facing != facing || this.connectionsVersion != this.machine.getConnectionsVersion();
+    }
+
+    private void resolveTargets(Direction facing, long time) {
+        this.facing = facing;
+        this.connectionsVersion = this.machine != null ? this.machine.getConnectionsVersion() : -1;
+
+        Arrays.fill(this.targets, 0, this.targetCount, null);
+        Arrays.fill(this.targetEntities, 0, this.targetCount, null);
+        Arrays.fill(this.targetDirections, 0, this.targetCount, null);
+        this.targetCount = 0;
+
+        this.missing = this.machine != null
+                ? this.machine.getRoutedDirections(ResourceType.ENERGY, ResourceFlow.OUTPUT)
+                : this.config.getDirections(facing, ResourceType.ENERGY, ResourceFlow.OUTPUT);
+        this.findMissing(time);
+    }
+
+    private void refreshTargets(long time) {
+        boolean dropped = false;
+        for (int i = this.targetCount - 1; i >= 0; i--) {
+            BlockEntity entity = this.targetEntities[i];
+            if (entity != null && entity.isRemoved()) {
+                this.missing |= 1 << this.targetDirections[i].ordinal();
+                this.removeTarget(i);
+                dropped = true;
+            }
+        }
+
+        if (this.missing != 0 && (dropped || time >= this.retryAt)) {
+            this.findMissing(time);
+        }
+    }
+
+    private void findMissing(long time) {
+        assert this.cache != null;
+
         for (Direction direction : Constant.Cache.DIRECTIONS) {
-            IOFace face = this.config.get(BlockFace.from(facing, direction));
-            if (face.getType().willAcceptResource(ResourceType.ENERGY) && face.getFlow().canFlowIn(ResourceFlow.OUTPUT)) {
+            int bit = 1 << direction.ordinal();
+            if ((this.missing & bit) != 0) {
                 EnergyStorage storage = this.cache.find(direction);
                 if (storage != null) {
-                    EnergyStorageUtil.move(this.storage, storage, this.storage.externalExtractionRate(), null);
+                    this.missing &= ~bit;
+                    this.addTarget(direction, storage, this.cache.getBlockEntity(direction));
                 }
             }
         }
+        this.retryAt = time + RETRY_INTERVAL;
+    }
+
+    private void addTarget(Direction direction, EnergyStorage storage, @Nullable BlockEntity entity) {
+        int i = this.targetCount;
+        while (i > 0 && this.targetDirections[i - 1].ordinal() > direction.ordinal()) {
+            this.targets[i] = this.targets[i - 1];
+            this.targetEntities[i] = this.targetEntities[i - 1];
+            this.targetDirections[i] = this.targetDirections[i - 1];
+            i--;
+        }
+        this.targets[i] = storage;
+        this.targetEntities[i] = entity;
+        this.targetDirections[i] = direction;
+        this.targetCount++;
+    }
+
+    private void removeTarget(int index) {
+        int last = --this.targetCount;
+        System.arraycopy(this.targets, index + 1, this.targets, index, last - index);
+        System.arraycopy(this.targetEntities, index + 1, this.targetEntities, index, last - index);
+        System.arraycopy(this.targetDirections, index + 1, this.targetDirections, index, last - index);
+        this.targets[last] = null;
+        this.targetEntities[last] = null;
+        this.targetDirections[last] = null;
+    }
+
+    /**
+     * How energy is split between multiple output faces.
+     */
+    public enum Distribution {
+        /**
+         * Each face is offered up to the full extraction rate, in direction order.
+         * The first faces may take all the energy and starve the others.
+         */
+        SEQUENTIAL,
+        /**
+         * The extraction rate is shared between all faces, proportionally to how much each face can accept.
+         * Leftover energy from rounding is given to a different face every tick.
+         */
+        PROPORTIONAL
     }
 }
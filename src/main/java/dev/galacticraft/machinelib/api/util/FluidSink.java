@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.api.util;
+
+import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
+import dev.galacticraft.machinelib.api.machine.configuration.IOConfig;
+import dev.galacticraft.machinelib.api.storage.MachineFluidStorage;
+import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
+import dev.galacticraft.machinelib.api.transfer.ResourceType;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidStorage;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Pulls fluids from adjacent storages into a machine's input tanks.
+ * By default, up to one bucket is pulled from each input face every tick.
+ *
+ * @see ResourceSink
+ */
+public class FluidSink extends ResourceSink<FluidVariant> {
+    public FluidSink(IOConfig config, MachineFluidStorage storage) {
+        this(config, storage, FluidSource.DEFAULT_SETTINGS);
+    }
+
+    public FluidSink(IOConfig config, MachineFluidStorage storage, TransferSettings settings) {
+        super(config, storage.getExposedStorage(ResourceFlow.INPUT), FluidStorage.SIDED, ResourceType.FLUID, settings);
+    }
+
+    public FluidSink(MachineBlockEntity machine) {
+        this(machine, FluidSource.DEFAULT_SETTINGS);
+    }
+
+    public FluidSink(MachineBlockEntity machine, TransferSettings settings) {
+        super(machine.getIOConfig(), machine.fluidStorage().getExposedStorage(ResourceFlow.INPUT), FluidStorage.SIDED, ResourceType.FLUID, settings, machine);
+    }
+
+    public void tryPullFluids(ServerLevel level, BlockPos pos, BlockState state) {
+        this.tryPull(level, pos, state);
+    }
+}
@@ -22,54 +22,47 @@
 
 package dev.galacticraft.machinelib.api.util;
 
-import com.google.common.base.Predicates;
 import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
 import dev.galacticraft.machinelib.api.machine.configuration.IOConfig;
-import dev.galacticraft.machinelib.api.machine.configuration.IOFace;
 import dev.galacticraft.machinelib.api.storage.MachineFluidStorage;
 import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
 import dev.galacticraft.machinelib.api.transfer.ResourceType;
-import dev.galacticraft.machinelib.impl.Constant;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidStorage;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
-import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
-import net.fabricmc.fabric.api.transfer.v1.storage.StorageUtil;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 
-public class FluidSource {
-    private final IOConfig config;
-    private final Storage<FluidVariant> storage;
-    private AdjacentBlockApiCache<Storage<FluidVariant>> cache = null;
+/**
+ * Pushes fluids out of a machine's output tanks into adjacent storages.
+ * By default, up to one bucket is moved into each output face every tick.
+ *
+ * @see ResourceSource
+ */
+public class FluidSource extends ResourceSource<FluidVariant> {
+    /**
+     * The default ejection settings.
+     */
+    public static final TransferSettings DEFAULT_SETTINGS = TransferSettings.perFace(FluidConstants.BUCKET);
 
     public FluidSource(IOConfig config, MachineFluidStorage storage) {
-        this.config = config;
-        this.storage = storage.getExposedStorage(ResourceFlow.OUTPUT);
+        this(config, storage, DEFAULT_SETTINGS);
+    }
+
+    public FluidSource(IOConfig config, MachineFluidStorage storage, TransferSettings settings) {
+        super(config, storage.getExposedStorage(ResourceFlow.OUTPUT), FluidStorage.SIDED, ResourceType.FLUID, settings);
     }
 
     public FluidSource(MachineBlockEntity machine) {
-        this.config = machine.getIOConfig();
-        this.storage = machine.fluidStorage().getExposedStorage(ResourceFlow.OUTPUT);
+        this(machine, DEFAULT_SETTINGS);
     }
 
-    public void trySpreadFluids(ServerLevel level, BlockPos pos, BlockState state) {
-        if (this.cache == null) {
-            this.cache = AdjacentBlockApiCache.create(FluidStorage.SIDED, level, pos);
-        }
+    public FluidSource(MachineBlockEntity machine, TransferSettings settings) {
+        super(machine.getIOConfig(), machine.fluidStorage().getExposedStorage(ResourceFlow.OUTPUT), FluidStorage.SIDED, ResourceType.FLUID, settings, machine);
+    }
 
-        Direction facing = state.getValue(BlockStateProperties.HORIZONTAL_FACING);
-        for (Direction direction : Constant.Cache.DIRECTIONS) {
-            IOFace face = this.config.get(BlockFace.from(facing, direction));
-            if (face.getType().willAcceptResource(ResourceType.FLUID) && face.getFlow().canFlowIn(ResourceFlow.OUTPUT)) {
-                Storage<FluidVariant> storage = this.cache.find(direction);
-                if (storage != null) {
-                    StorageUtil.move(this.storage, storage, Predicates.alwaysTrue(), FluidConstants.BUCKET, null);
-                }
-            }
-        }
+    public void trySpreadFluids(ServerLevel level, BlockPos pos, BlockState state) {
+        this.trySpread(level, pos, state);
     }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.api.util;
+
+import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
+import dev.galacticraft.machinelib.api.machine.configuration.IOConfig;
+import dev.galacticraft.machinelib.api.storage.MachineItemStorage;
+import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
+import dev.galacticraft.machinelib.api.transfer.ResourceType;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemStorage;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Pulls items from adjacent storages into a machine's input slots.
+ * By default, up to 16 items are pulled from each input face every tick.
+ *
+ * @see ResourceSink
+ */
+public class ItemSink extends ResourceSink<ItemVariant> {
+    public ItemSink(IOConfig config, MachineItemStorage storage) {
+        this(config, storage, ItemSource.DEFAULT_SETTINGS);
+    }
+
+    public ItemSink(IOConfig config, MachineItemStorage storage, TransferSettings settings) {
+        super(config, storage.getExposedStorage(ResourceFlow.INPUT), ItemStorage.SIDED, ResourceType.ITEM, settings);
+    }
+
+    public ItemSink(MachineBlockEntity machine) {
+        this(machine, ItemSource.DEFAULT_SETTINGS);
+    }
+
+    public ItemSink(MachineBlockEntity machine, TransferSettings settings) {
+        super(machine.getIOConfig(), machine.itemStorage().getExposedStorage(ResourceFlow.INPUT), ItemStorage.SIDED, ResourceType.ITEM, settings, machine);
+    }
+
+    public void tryPullItems(ServerLevel level, BlockPos pos, BlockState state) {
+        this.tryPull(level, pos, state);
+    }
+}
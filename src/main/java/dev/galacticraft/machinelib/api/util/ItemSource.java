@@ -22,53 +22,46 @@
 
 package dev.galacticraft.machinelib.api.util;
 
-import com.google.common.base.Predicates;
 import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
 import dev.galacticraft.machinelib.api.machine.configuration.IOConfig;
-import dev.galacticraft.machinelib.api.machine.configuration.IOFace;
 import dev.galacticraft.machinelib.api.storage.MachineItemStorage;
 import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
 import dev.galacticraft.machinelib.api.transfer.ResourceType;
-import dev.galacticraft.machinelib.impl.Constant;
 import net.fabricmc.fabric.api.transfer.v1.item.ItemStorage;
 import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
-import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
-import net.fabricmc.fabric.api.transfer.v1.storage.StorageUtil;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 
-public class ItemSource {
-    private final IOConfig config;
-    private final Storage<ItemVariant> storage;
-    private AdjacentBlockApiCache<Storage<ItemVariant>> cache = null;
+/**
+ * Pushes items out of a machine's output slots into adjacent storages.
+ * By default, up to 16 items are moved into each output face every tick.
+ *
+ * @see ResourceSource
+ */
+public class ItemSource extends ResourceSource<ItemVariant> {
+    /**
+     * The default ejection settings.
+     */
+    public static final TransferSettings DEFAULT_SETTINGS = TransferSettings.perFace(16);
 
     public ItemSource(IOConfig config, MachineItemStorage storage) {
-        this.config = config;
-        this.storage = storage.getExposedStorage(ResourceFlow.OUTPUT);
+        this(config, storage, DEFAULT_SETTINGS);
+    }
+
+    public ItemSource(IOConfig config, MachineItemStorage storage, TransferSettings settings) {
+        super(config, storage.getExposedStorage(ResourceFlow.OUTPUT), ItemStorage.SIDED, ResourceType.ITEM, settings);
     }
 
     public ItemSource(MachineBlockEntity machine) {
-        this.config = machine.getIOConfig();
-        this.storage = machine.itemStorage().getExposedStorage(ResourceFlow.OUTPUT);
+        this(machine, DEFAULT_SETTINGS);
     }
 
-    public void trySpreadItems(ServerLevel level, BlockPos pos, BlockState state) {
-        if (this.cache == null) {
-            this.cache = AdjacentBlockApiCache.create(ItemStorage.SIDED, level, pos);
-        }
+    public ItemSource(MachineBlockEntity machine, TransferSettings settings) {
+        super(machine.getIOConfig(), machine.itemStorage().getExposedStorage(ResourceFlow.OUTPUT), ItemStorage.SIDED, ResourceType.ITEM, settings, machine);
+    }
 
-        Direction facing = state.getValue(BlockStateProperties.HORIZONTAL_FACING);
-        for (Direction direction : Constant.Cache.DIRECTIONS) {
-            IOFace face = this.config.get(BlockFace.from(facing, direction));
-            if (face.getType().willAcceptResource(ResourceType.ITEM) && face.getFlow().canFlowIn(ResourceFlow.OUTPUT)) {
-                Storage<ItemVariant> storage = this.cache.find(direction);
-                if (storage != null) {
-                    StorageUtil.move(this.storage, storage, Predicates.alwaysTrue(), 16, null);
-                }
-            }
-        }
+    public void trySpreadItems(ServerLevel level, BlockPos pos, BlockState state) {
+        this.trySpread(level, pos, state);
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.api.util;
+
+import dev.galacticraft.machinelib.api.block.entity.ConfiguredBlockEntity;
+import dev.galacticraft.machinelib.impl.util.NeighborCacheImpl;
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiLookup;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Caches the blocks adjacent to a machine, so that any number of {@link BlockApiLookup lookups} can share them.
+ * <p>
+ * Only the block entity in each direction is kept. Block states are read on every query, as they can change without a
+ * neighbor update, and block entities are refreshed when they are removed or their chunk was not loaded yet.
+ *
+ * @see ConfiguredBlockEntity#getNeighborCache()
+ */
+public interface NeighborCache {
+    /**
+     * Creates a new neighbor cache for the given machine.
+     *
+     * @param machine the machine whose neighbors are cached
+     * @return a new neighbor cache
+     */
+    @Contract("_ -> new")
+    static @NotNull NeighborCache create(@NotNull ConfiguredBlockEntity machine) {
+        return new NeighborCacheImpl(machine);
+    }
+
+    /**
+     * Attempt to retrieve an API from an adjacent block.
+     *
+     * @param lookup the lookup to query
+     * @param direction the direction to search in
+     * @param <A> the api type
+     * @return the retrieved API, or {@code null} if no API was found
+     */
+    <A> @Nullable A find(@NotNull BlockApiLookup<A, Direction> lookup, @NotNull Direction direction);
+
+    /**
+     * {@return the block state in the given direction, or {@code null} if it is not loaded}
+     *
+     * @param direction the direction to search in
+     */
+    @Nullable
+    BlockState getBlockState(@NotNull Direction direction);
+
+    /**
+     * {@return the block entity in the given direction}
+     *
+     * @param direction the direction to search in
+     */
+    @Nullable
+    BlockEntity getBlockEntity(@NotNull Direction direction);
+
+    /**
+     * {@return a view of this cache that queries a single lookup}
+     *
+     * @param lookup the lookup to query
+     * @param <A> the api type
+     */
+    @Contract("_ -> new")
+    <A> @NotNull AdjacentBlockApiCache<A> forLookup(@NotNull BlockApiLookup<A, Direction> lookup);
+}
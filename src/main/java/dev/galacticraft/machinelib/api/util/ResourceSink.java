@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.api.util;
+
+import dev.galacticraft.machinelib.api.block.entity.ConfiguredBlockEntity;
+import dev.galacticraft.machinelib.api.machine.configuration.IOConfig;
+import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
+import dev.galacticraft.machinelib.api.transfer.ResourceType;
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiLookup;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.TransferVariant;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Pulls resources from the adjacent storages on a machine's input faces into its input storage.
+ * <p>
+ * Resources are inserted through the machine's exposed input storage, so slot filters and transfer types apply
+ * exactly as they would for a pipe. Rates, budgets and intervals work like those of a {@link ResourceSource},
+ * and faces whose last transfer failed are skipped until the source or target storage changes.
+ *
+ * @param <Variant> the type of variant moved
+ * @see ItemSink
+ * @see FluidSink
+ */
+public abstract class ResourceSink<Variant extends TransferVariant<?>> extends ResourceTransfer<Variant> {
+    protected ResourceSink(IOConfig config, @Nullable Storage<Variant> storage, BlockApiLookup<Storage<Variant>, Direction> lookup, ResourceType type, TransferSettings settings) {
+        this(config, storage, lookup, type, settings, null);
+    }
+
+    protected ResourceSink(IOConfig config, @Nullable Storage<Variant> storage, BlockApiLookup<Storage<Variant>, Direction> lookup, ResourceType type, TransferSettings settings, @Nullable ConfiguredBlockEntity machine) {
+        super(config, storage, lookup, type, ResourceFlow.INPUT, settings, machine);
+    }
+
+    /**
+     * Tries to move resources out of adjacent storages. Call this every tick.
+     *
+     * @param level the level the machine is in
+     * @param pos the position of the machine
+     * @param state the block state of the machine
+     */
+    protected void tryPull(ServerLevel level, BlockPos pos, BlockState state) {
+        this.transfer(level, pos, state);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.api.util;
+
+import dev.galacticraft.machinelib.api.block.entity.ConfiguredBlockEntity;
+import dev.galacticraft.machinelib.api.machine.configuration.IOConfig;
+import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
+import dev.galacticraft.machinelib.api.transfer.ResourceType;
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiLookup;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.TransferVariant;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Pushes resources from a machine's output storage into the adjacent storages on its output faces.
+ * <p>
+ * How much is moved is controlled by the {@link TransferSettings}: a rate per face, a total budget shared by all faces
+ * and an interval. Ejecting every {@code n} ticks moves {@code n} times as much at once,
+ * so the average throughput stays the same while the number of transfers goes down.
+ * The face that is served first rotates every time, so a limited budget is shared fairly.
+ * <p>
+ * Faces whose last transfer failed are skipped until the source or target storage changes.
+ *
+ * @param <Variant> the type of variant moved
+ * @see ItemSource
+ * @see FluidSource
+ */
+public abstract class ResourceSource<Variant extends TransferVariant<?>> extends ResourceTransfer<Variant> {
+    protected ResourceSource(IOConfig config, @Nullable Storage<Variant> storage, BlockApiLookup<Storage<Variant>, Direction> lookup, ResourceType type, TransferSettings settings) {
+        this(config, storage, lookup, type, settings, null);
+    }
+
+    protected ResourceSource(IOConfig config, @Nullable Storage<Variant> storage, BlockApiLookup<Storage<Variant>, Direction> lookup, ResourceType type, TransferSettings settings, @Nullable ConfiguredBlockEntity machine) {
+        super(config, storage, lookup, type, ResourceFlow.OUTPUT, settings, machine);
+    }
+
+    /**
+     * Tries to move resources into adjacent storages. Call this every tick.
+     *
+     * @param level the level the machine is in
+     * @param pos the position of the machine
+     * @param state the block state of the machine
+     */
+    protected void trySpread(ServerLevel level, BlockPos pos, BlockState state) {
+        this.transfer(level, pos, state);
+    }
+}
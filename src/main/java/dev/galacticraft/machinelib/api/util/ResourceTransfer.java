@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.api.util;
+
+import dev.galacticraft.machinelib.api.block.entity.ConfiguredBlockEntity;
+import dev.galacticraft.machinelib.api.machine.configuration.IOConfig;
+import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
+import dev.galacticraft.machinelib.api.transfer.ResourceType;
+import dev.galacticraft.machinelib.impl.Constant;
+import dev.galacticraft.machinelib.impl.compat.transfer.ExposedStorageImpl;
+import dev.galacticraft.machinelib.impl.util.TransferBackoff;
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiLookup;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.TransferVariant;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Moves resources between a machine's exposed storage and the adjacent storages on the faces routed for one flow.
+ *
+ * @param <Variant> the type of variant moved
+ * @see ResourceSource
+ * @see ResourceSink
+ */
+abstract class ResourceTransfer<Variant extends TransferVariant<?>> {
+    private final IOConfig config;
+    private final @Nullable Storage<Variant> storage;
+    private final BlockApiLookup<Storage<Variant>, Direction> lookup;
+    private final ResourceType type;
+    private final ResourceFlow flow;
+    private final TransferSettings settings;
+    private final TransferSchedule schedule;
+    private final TransferBackoff backoff = new TransferBackoff(6);
+    private final @Nullable ConfiguredBlockEntity machine;
+    private AdjacentBlockApiCache<Storage<Variant>> cache = null;
+
+    ResourceTransfer(IOConfig config, @Nullable Storage<Variant> storage, BlockApiLookup<Storage<Variant>, Direction> lookup, ResourceType type, ResourceFlow flow, TransferSettings settings, @Nullable ConfiguredBlockEntity machine) {
+        this.machine = machine;
+        this.config = config;
+        this.storage = storage;
+        this.lookup = lookup;
+        this.type = type;
+        this.flow = flow;
+        this.settings = settings;
+        this.schedule = new TransferSchedule(settings);
+    }
+
+    /**
+     * {@return the transfer settings}
+     */
+    @Contract(pure = true)
+    public @NotNull TransferSettings getSettings() {
+        return this.settings;
+    }
+
+    /**
+     * Tries to move resources between the machine and its neighbors. Call this every tick.
+     *
+     * @param level the level the machine is in
+     * @param pos the position of the machine
+     * @param state the block state of the machine
+     */
+    void transfer(ServerLevel level, BlockPos pos, BlockState state) {
+        if (this.storage == null) return;
+        if (!this.schedule.tick()) return;
+
+        int directions = this.machine != null
+                ? this.machine.getRoutedDirections(this.type, this.flow)
+                : this.config.getDirections(state.getValue(BlockStateProperties.HORIZONTAL_FACING), this.type, this.flow);
+        if (directions == 0) return;
+
+        if (this.cache == null) {
+            this.cache = this.machine != null ? this.machine.getNeighborCache().forLookup(this.lookup) : AdjacentBlockApiCache.create(this.lookup, level, pos);
+        }
+
+        long time = level.getGameTime();
+        long perFace = this.schedule.perFace(0);
+        long remaining = this.schedule.budget();
+
+        for (int i = 0; i < Constant.Cache.DIRECTIONS.length && remaining > 0; i++) {
+            Direction direction = this.schedule.face(i);
+            if ((directions & (1 << direction.ordinal())) != 0) {
+                Storage<Variant> adjacent = this.cache.find(direction);
+                if (adjacent == null) continue;
+
+                Storage<Variant> source = this.flow == ResourceFlow.OUTPUT ? this.storage : adjacent;
+                Storage<Variant> target = this.flow == ResourceFlow.OUTPUT ? adjacent : this.storage;
+                if (source == adjacent && !adjacent.supportsExtraction()) continue;
+
+                int index = direction.ordinal();
+                if (this.backoff.shouldSkip(index, source, target, time)) continue;
+
+                long moved = ExposedStorageImpl.move(source, target, Math.min(perFace, remaining));
+                if (moved == 0) {
+                    this.backoff.recordFailure(index, source, target, time);
+                } else {
+                    this.backoff.clear(index);
+                    remaining -= moved;
+                }
+            }
+        }
+        this.schedule.rotate();
+    }
+}
@@ -23,10 +23,12 @@
 package dev.galacticraft.machinelib.api.util;
 
 import dev.galacticraft.machinelib.api.filter.ResourceFilter;
+import dev.galacticraft.machinelib.api.storage.MachineEnergyStorage;
 import dev.galacticraft.machinelib.api.storage.StorageAccess;
 import dev.galacticraft.machinelib.api.storage.slot.FluidResourceSlot;
 import dev.galacticraft.machinelib.api.storage.slot.ItemResourceSlot;
 import dev.galacticraft.machinelib.api.storage.slot.ResourceSlot;
+import dev.galacticraft.machinelib.impl.storage.exposed.ExposedEnergyStorageImpl;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
 import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
@@ -38,6 +40,8 @@
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import team.reborn.energy.api.EnergyStorage;
+import team.reborn.energy.api.EnergyStorageUtil;
 
 /**
  * Utility methods for dealing with {@link Storage storages}.
@@ -273,6 +277,53 @@ public static long move(@Nullable FluidResourceSlot from, @Nullable Storage<Flui
         return 0;
     }
 
+    /**
+     * Moves energy from one storage to another.
+     * If both storages belong to MachineLib machines and no transaction is open,
+     * the energy is moved directly without opening a transaction.
+     *
+     * @param from the source storage
+     * @param to the destination storage
+     * @param maxAmount the maximum amount of energy to move
+     * @param context the transaction context to use (if {@code null} the move is committed immediately)
+     * @return the amount of energy moved
+     */
+    public static long move(@Nullable EnergyStorage from, @Nullable EnergyStorage to, long maxAmount, @Nullable TransactionContext context) {
+        if (from == null || to == null || maxAmount == 0) return 0;
+        StoragePreconditions.notNegative(maxAmount);
+
+        if (context == null && !Transaction.isOpen()) {
+            MachineEnergyStorage source = unwrap(from);
+            MachineEnergyStorage target = unwrap(to);
+            if (source != null && target != null) {
+                if (source == target) return 0;
+
+                // apply the same limits as the exposed storages would
+                if (from instanceof ExposedEnergyStorageImpl exposed) {
+                    maxAmount = exposed.supportsExtraction() ? Math.min(maxAmount, exposed.maxExtraction()) : 0;
+                }
+                if (to instanceof ExposedEnergyStorageImpl exposed) {
+                    maxAmount = exposed.supportsInsertion() ? Math.min(maxAmount, exposed.maxInsertion()) : 0;
+                }
+
+                long moved = target.tryInsert(source.tryExtract(maxAmount));
+                if (moved > 0) {
+                    source.extract(moved);
+                    target.insert(moved);
+                }
+                return moved;
+            }
+        }
+
+        return EnergyStorageUtil.move(from, to, maxAmount, context);
+    }
+
+    private static @Nullable MachineEnergyStorage unwrap(@NotNull EnergyStorage storage) {
+        if (storage instanceof ExposedEnergyStorageImpl exposed) return exposed.parent();
+        if (storage instanceof MachineEnergyStorage machine) return machine;
+        return null;
+    }
+
     /**
      * Moves all resources (matching the slot filter) from the storage into the slot.
      *
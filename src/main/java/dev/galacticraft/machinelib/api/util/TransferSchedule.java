@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.api.util;
+
+import dev.galacticraft.machinelib.impl.Constant;
+import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Decides when an automatic transfer runs, how much it may move and in which order the faces are served.
+ * <p>
+ * Transferring every {@code n} ticks moves {@code n} times as much at once,
+ * so the average throughput stays the same while the number of transfers goes down.
+ * The face that is served first rotates every time, so a limited budget is shared fairly.
+ */
+final class TransferSchedule {
+    private final @Nullable TransferSettings settings;
+    private int ticks = 0;
+    private int rotation = 0;
+
+    TransferSchedule(@Nullable TransferSettings settings) {
+        this.settings = settings;
+    }
+
+    @Nullable TransferSettings settings() {
+        return this.settings;
+    }
+
+    /**
+     * Advances the schedule by one tick.
+     *
+     * @return whether a transfer should run this tick
+     */
+    boolean tick() {
+        if (++this.ticks < this.interval()) return false;
+        this.ticks = 0;
+        return true;
+    }
+
+    /**
+     * {@return the maximum amount moved through a single face in one transfer}
+     *
+     * @param fallback the amount to use when there are no settings
+     */
+    long perFace(long fallback) {
+        return this.settings != null ? saturatedMultiply(this.settings.rate(), this.settings.interval()) : fallback;
+    }
+
+    /**
+     * {@return the maximum amount moved through all faces combined in one transfer}
+     */
+    long budget() {
+        return this.settings != null ? saturatedMultiply(this.settings.budget(), this.settings.interval()) : Long.MAX_VALUE;
+    }
+
+    /**
+     * {@return the face to serve at the given position in the current transfer}
+     *
+     * @param i the position, from {@code 0} to {@code 5}
+     */
+    Direction face(int i) {
+        return Constant.Cache.DIRECTIONS[(this.rotation + i) % Constant.Cache.DIRECTIONS.length];
+    }
+
+    /**
+     * Moves on to the next face, so that it is served first in the next transfer.
+     */
+    void rotate() {
+        this.rotation = (this.rotation + 1) % Constant.Cache.DIRECTIONS.length;
+    }
+
+    private int interval() {
+        return this.settings != null ? this.settings.interval() : 1;
+    }
+
+    private static long saturatedMultiply(long a, int b) {
+        return a > Long.MAX_VALUE / b ? Long.MAX_VALUE : a * b;
+    }
+}
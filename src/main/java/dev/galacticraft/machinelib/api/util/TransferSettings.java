@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.api.util;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Controls how much an automatic transfer moves and how often it runs.
+ *
+ * @param rate the maximum amount moved through each face per tick
+ * @param budget the maximum amount moved through all faces combined per tick
+ * @param interval the number of ticks between transfers
+ * @see ResourceSource
+ * @see ResourceSink
+ * @see EnergySink
+ */
+public record TransferSettings(long rate, long budget, int interval) {
+    public TransferSettings {
+        if (rate <= 0) throw new IllegalArgumentException("Rate must be positive");
+        if (budget <= 0) throw new IllegalArgumentException("Budget must be positive");
+        if (interval <= 0) throw new IllegalArgumentException("Interval must be positive");
+    }
+
+    /**
+     * Creates settings that transfer every tick, limited only per face.
+     *
+     * @param rate the maximum amount moved through each face per tick
+     * @return the new settings
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public static @NotNull TransferSettings perFace(long rate) {
+        return new TransferSettings(rate, Long.MAX_VALUE, 1);
+    }
+
+    /**
+     * {@return a copy of these settings with the given total budget per tick}
+     *
+     * @param budget the maximum amount moved through all faces combined per tick
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull TransferSettings withBudget(long budget) {
+        return new TransferSettings(this.rate, budget, this.interval);
+    }
+
+    /**
+     * {@return a copy of these settings that transfers every {@code interval} ticks}
+     * The amounts moved at once are scaled by the interval.
+     *
+     * @param interval the number of ticks between transfers
+     */
+    @Contract(value = "_ -> new", pure = true)
+    public @NotNull TransferSettings withInterval(int interval) {
+        return new TransferSettings(this.rate, this.budget, interval);
+    }
+}
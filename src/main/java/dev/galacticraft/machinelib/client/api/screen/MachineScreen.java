@@ -259,7 +259,10 @@ protected void containerTick() {
      */
     public void appendEnergyTooltip(List<Component> lines) {
         lines.add(Component.translatable(Constant.TranslationKey.STATUS).setStyle(Constant.Text.GRAY_STYLE).append(this.menu.state.getStatusText(this.menu.redstoneMode)));
-        lines.add(DisplayUtil.createEnergyTooltip(this.menu.energyStorage.getAmount(), this.menu.energyStorage.getCapacity()));
+        lines.add(DisplayUtil.createEnergyTooltip(this.menu.getEnergyAmount(), this.menu.energyStorage.getCapacity()));
+        if (this.menu.getAverageEnergyInsertion() > 0 || this.menu.getAverageEnergyExtraction() > 0) {
+            lines.add(DisplayUtil.createEnergyFlowTooltip(this.menu.getAverageEnergyInsertion(), this.menu.getAverageEnergyExtraction()));
+        }
     }
 
     /**
@@ -783,7 +786,7 @@ protected void drawCapacitor(GuiGraphics graphics, int mouseX, int mouseY) {
         if (capacity > 0 && this.capacitorHeight != 0) {
             int x = this.leftPos + this.capacitorX;
             int y = this.topPos + this.capacitorY;
-            long amount = this.menu.energyStorage.getAmount();
+            long amount = this.menu.getEnergyAmount();
             float scale = (float) ((double) amount / (double) capacity);
             graphics.blit(Constant.ScreenTexture.OVERLAY_BARS, x, y, ENERGY_X, ENERGY_Y, OVERLAY_WIDTH, OVERLAY_HEIGHT, OVERLAY_TEX_WIDTH, OVERLAY_TEX_HEIGHT);
             graphics.blit(Constant.ScreenTexture.OVERLAY_BARS, x, y, ENERGY_BACKGROUND_X, ENERGY_BACKGROUND_Y, OVERLAY_WIDTH, (int) (OVERLAY_HEIGHT * (1 - scale)), OVERLAY_TEX_WIDTH, OVERLAY_TEX_HEIGHT);
@@ -118,6 +118,10 @@ public static void createFluidTooltip(@NotNull List<Component> tooltip, @Nullabl
         }
     }
 
+    public static MutableComponent createEnergyFlowTooltip(double insertion, double extraction) {
+        return Component.translatable(Constant.TranslationKey.ENERGY_FLOW, Component.literal(truncateDecimal(insertion, 1)).setStyle(Constant.Text.GREEN_STYLE), Component.literal(truncateDecimal(extraction, 1)).setStyle(Constant.Text.RED_STYLE)).setStyle(Constant.Text.GRAY_STYLE);
+    }
+
     public static MutableComponent createEnergyTooltip(long amount, long capacity) {
         return Component.translatable(Constant.TranslationKey.CURRENT_ENERGY, DisplayUtil.formatNumber(amount).setStyle(Style.EMPTY.withColor(DisplayUtil.colorScale(amount, capacity))), DisplayUtil.formatEnergy(capacity).setStyle(Constant.Text.LIGHT_PURPLE_STYLE)).setStyle(Constant.Text.GRAY_STYLE);
     }
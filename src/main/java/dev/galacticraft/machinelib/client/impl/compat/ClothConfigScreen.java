@@ -50,6 +50,12 @@ public static Screen factory(Screen screen) {
                 .setEnumNameProvider(v -> ((Config.FluidUnits) v).getName())
                 .build()
         );
+        general.addEntry(entryBuilder.startIntField(Component.translatable("ui.machinelib.config.menu_sync_bandwidth"), MachineLib.CONFIG.menuSyncBandwidth())
+                .setSaveConsumer(MachineLib.CONFIG::setMenuSyncBandwidth)
+                .setDefaultValue(Config.DEFAULT.menuSyncBandwidth())
+                .setMin(0)
+                .build()
+        );
 
 //        ConfigCategory debug = builder.getOrCreateCategory(Component.translatable("ui.machinelib.config.category.debug"));
         return builder.build();
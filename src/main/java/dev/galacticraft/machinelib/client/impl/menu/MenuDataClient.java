@@ -24,8 +24,11 @@
 
 import dev.galacticraft.machinelib.api.menu.MenuData;
 import dev.galacticraft.machinelib.api.misc.DeltaPacketSerializable;
+import dev.galacticraft.machinelib.impl.menu.sync.ChangeMask;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 
+import java.util.BitSet;
+
 public class MenuDataClient extends MenuData {
     public MenuDataClient(int syncId) {
         super(syncId);
@@ -48,16 +51,23 @@ public void synchronizeInitial(RegistryFriendlyByteBuf buf) {
 
     @Override
     public void handle(RegistryFriendlyByteBuf buf) {
-        int n = buf.readByte();
+        int header = buf.readVarInt();
+        int n = header >>> 1;
 
         if (n == this.data.size()) {
             for (int i = 0; i < n; i++) {
                 var key = (DeltaPacketSerializable<? super RegistryFriendlyByteBuf, ? super Object>) this.data.get(i);
                 key.readPacket(buf);
             }
+        } else if ((header & 1) != 0) {
+            BitSet changed = ChangeMask.readMask(buf, this.data.size());
+            for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+                var key = (DeltaPacketSerializable<? super RegistryFriendlyByteBuf, ? super Object>) this.data.get(i);
+                key.readDeltaPacket(buf);
+            }
         } else {
             for (int i = 0; i < n; i++) {
-                int index = buf.readByte();
+                int index = buf.readVarInt();
                 var key = (DeltaPacketSerializable<? super RegistryFriendlyByteBuf, ? super Object>) this.data.get(index);
                 key.readDeltaPacket(buf);
             }
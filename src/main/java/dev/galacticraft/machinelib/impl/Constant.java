@@ -159,6 +159,7 @@ interface TranslationKey {
         String STATUS_IDLE = "status.machinelib.idle";
 
         String CURRENT_ENERGY = "ui.machinelib.machine.current_energy";
+        String ENERGY_FLOW = "ui.machinelib.machine.energy_flow";
 
         String SECURITY = "ui.machinelib.machine.security";
         String ACCESS_LEVEL = "ui.machinelib.machine.security.access";
@@ -24,8 +24,10 @@
 
 import dev.galacticraft.machinelib.api.component.MLDataComponents;
 import dev.galacticraft.machinelib.api.config.Config;
+import dev.galacticraft.machinelib.impl.filter.FilterGeneration;
 import dev.galacticraft.machinelib.impl.network.MachineLibPackets;
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariantAttributes;
 import net.fabricmc.loader.api.FabricLoader;
 import org.jetbrains.annotations.ApiStatus;
@@ -43,6 +45,8 @@ public void onInitialize() {
         MachineLibPackets.registerServer();
         MLDataComponents.init();
 
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> FilterGeneration.invalidate());
+
         if (CONFIG.enableColoredVanillaFluidNames()) {
             FluidVariantAttributes.enableColoredVanillaFluidNames();
         }
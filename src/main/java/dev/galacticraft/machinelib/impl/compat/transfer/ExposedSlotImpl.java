@@ -41,6 +41,11 @@
     private final boolean insertion;
     private final boolean extraction;
 
+    // the last variant handed out, along with the slot state it was created from
+    private @Nullable Variant cachedVariant = null;
+    private @Nullable Resource cachedResource = null;
+    private @Nullable DataComponentPatch cachedComponents = null;
+
     public ExposedSlotImpl(@NotNull ResourceSlot<Resource> slot, @NotNull ResourceFlow flow) {
         this.slot = slot;
         this.insertion = slot.transferMode().externalInsertion() && flow == ResourceFlow.INPUT || flow == ResourceFlow.BOTH;
@@ -51,22 +56,56 @@ public ExposedSlotImpl(@NotNull ResourceSlot<Resource> slot, @NotNull ResourceFl
 
     @Override
     public long insert(Variant variant, long maxAmount, TransactionContext transaction) {
-        return this.supportsInsertion() && this.slot.getFilter().test(variant.getObject(), variant.getComponents()) ?
+        return this.canInsert(variant.getObject(), variant.getComponents()) ?
                 this.slot.insert(variant.getObject(), variant.getComponents(), maxAmount, transaction)
                 : 0;
     }
 
     @Override
     public long extract(Variant variant, long maxAmount, TransactionContext transaction) {
-        if (this.supportsExtraction()) {
-            if (this.slot.transferMode() == TransferType.PROCESSING) {
-                if (this.slot.getFilter().test(variant.getObject(), variant.getComponents())) {
-                    return 0;
-                }
-            }
-            return this.slot.extract(variant.getObject(), variant.getComponents(), maxAmount, transaction);
-        }
-        return 0;
+        return this.canExtract(variant.getObject(), variant.getComponents()) ?
+                this.slot.extract(variant.getObject(), variant.getComponents(), maxAmount, transaction)
+                : 0;
+    }
+
+    /**
+     * Inserts into the slot without a transaction, following the same rules as {@link #insert}.
+     */
+    long insertDirect(@NotNull Resource resource, @NotNull DataComponentPatch components, long maxAmount) {
+        return this.canInsert(resource, components) ? this.slot.insert(resource, components, maxAmount) : 0;
+    }
+
+    /**
+     * {@return how much of the slot's current resource may be extracted, following the same rules as {@link #extract}}
+     */
+    long tryExtractDirect(long maxAmount) {
+        Resource resource = this.slot.getResource();
+        return resource != null && this.canExtract(resource, this.slot.getComponents()) ? this.slot.tryExtract(maxAmount) : 0;
+    }
+
+    /**
+     * Extracts the slot's current resource without a transaction.
+     * Callers must check {@link #tryExtractDirect(long)} first.
+     */
+    long extractDirect(long amount) {
+        return this.slot.extract(amount);
+    }
+
+    @Nullable Resource getSlotResource() {
+        return this.slot.getResource();
+    }
+
+    @NotNull DataComponentPatch getSlotComponents() {
+        return this.slot.getComponents();
+    }
+
+    private boolean canInsert(Resource resource, DataComponentPatch components) {
+        return this.supportsInsertion() && this.slot.getFilter().test(resource, components);
+    }
+
+    private boolean canExtract(Resource resource, DataComponentPatch components) {
+        // processing slots only allow extraction of resources that do not match the filter
+        return this.supportsExtraction() && (this.slot.transferMode() != TransferType.PROCESSING || !this.slot.getFilter().test(resource, components));
     }
 
     @Override
@@ -86,7 +125,15 @@ public boolean isResourceBlank() {
 
     @Override
     public Variant getResource() {
-        return this.createVariant(this.slot.getResource(), this.slot.getComponents());
+        // keyed on contents, see ItemResourceSlotImpl#getItemVariant
+        Resource resource = this.slot.getResource();
+        DataComponentPatch components = this.slot.getComponents();
+        if (this.cachedVariant == null || this.cachedResource != resource || this.cachedComponents != components) {
+            this.cachedVariant = this.createVariant(resource, components);
+            this.cachedResource = resource;
+            this.cachedComponents = components;
+        }
+        return this.cachedVariant;
     }
 
     @Override
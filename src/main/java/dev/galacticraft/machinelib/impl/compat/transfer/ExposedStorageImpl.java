@@ -22,13 +22,18 @@
 
 package dev.galacticraft.machinelib.impl.compat.transfer;
 
+import com.google.common.base.Predicates;
 import com.google.common.collect.Iterators;
 import dev.galacticraft.machinelib.api.compat.transfer.ExposedSlot;
 import dev.galacticraft.machinelib.api.compat.transfer.ExposedStorage;
 import dev.galacticraft.machinelib.api.storage.ResourceStorage;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.StorageUtil;
 import net.fabricmc.fabric.api.transfer.v1.storage.StorageView;
 import net.fabricmc.fabric.api.transfer.v1.storage.TransferVariant;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.minecraft.core.component.DataComponentPatch;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Iterator;
@@ -95,4 +100,54 @@ public long extract(Variant variant, long maxAmount, TransactionContext transact
     public long getVersion() {
         return this.storage.getModifications();
     }
+
+    /**
+     * Moves resources from one storage to another.
+     * If both storages are exposed MachineLib storages of different machines and no transaction is open,
+     * resources are moved straight between the slots, skipping the transaction machinery and variant creation.
+     *
+     * @param from the source storage
+     * @param to the destination storage
+     * @param maxAmount the maximum amount to move
+     * @param <Variant> the type of variant moved
+     * @return the amount moved
+     */
+    @SuppressWarnings("unchecked")
+    public static <Variant> long move(@NotNull Storage<Variant> from, @NotNull Storage<Variant> to, long maxAmount) {
+        if (from instanceof ExposedStorageImpl<?, ?> source && to instanceof ExposedStorageImpl<?, ?> target
+                && source.storage != target.storage && !Transaction.isOpen()) {
+            return ((ExposedStorageImpl<Object, ?>) source).moveDirect((ExposedStorageImpl<Object, ?>) target, maxAmount);
+        }
+        return StorageUtil.move(from, to, Predicates.alwaysTrue(), maxAmount, null);
+    }
+
+    private long moveDirect(@NotNull ExposedStorageImpl<Resource, ?> target, long maxAmount) {
+        if (!this.storage.isValid() || !target.storage.isValid()) return 0;
+
+        long moved = 0;
+        for (ExposedSlot<Resource, Variant> s : this.slots) {
+            if (moved == maxAmount) break;
+            if (!(s instanceof ExposedSlotImpl<Resource, Variant> source)) continue;
+
+            long available = source.tryExtractDirect(maxAmount - moved);
+            if (available == 0) continue;
+
+            Resource resource = source.getSlotResource();
+            DataComponentPatch components = source.getSlotComponents();
+            assert resource != null;
+            for (ExposedSlot<Resource, ?> t : target.slots) {
+                if (!(t instanceof ExposedSlotImpl<Resource, ?> destination)) continue;
+
+                long inserted = destination.insertDirect(resource, components, available);
+                if (inserted > 0) {
+                    long extracted = source.extractDirect(inserted);
+                    assert extracted == inserted;
+                    moved += inserted;
+                    available -= inserted;
+                    if (available == 0) break;
+                }
+            }
+        }
+        return moved;
+    }
 }
@@ -27,11 +27,13 @@
 import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
 import dev.galacticraft.machinelib.api.machine.configuration.RedstoneMode;
 import dev.galacticraft.machinelib.api.machine.configuration.SecuritySettings;
+import dev.galacticraft.machinelib.api.storage.MachineEnergyStorage;
 import dev.galacticraft.machinelib.impl.Constant;
 import mcp.mobius.waila.api.*;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.level.block.entity.SkullBlockEntity;
 
+import java.util.Locale;
 import java.util.Optional;
 
 public class MachineLibWailaPlugin implements IWailaPlugin {
@@ -40,6 +42,12 @@ public void register(IRegistrar registrar) {
         registrar.addBlockData((IDataProvider<MachineBlockEntity>) (data, accessor, config) -> {
             data.raw().put("security", accessor.getTarget().getSecurity().createTag());
             data.raw().put("redstone", accessor.getTarget().getRedstoneMode().createTag());
+
+            MachineEnergyStorage energy = accessor.getTarget().energyStorage();
+            if (energy.getCapacity() > 0) {
+                data.raw().putDouble("energy_in", energy.averageInsertion());
+                data.raw().putDouble("energy_out", energy.averageExtraction());
+            }
         }, MachineBlock.class);
 
         registrar.addComponent(new IBlockComponentProvider() {
@@ -50,6 +58,14 @@ public void appendBody(ITooltip tooltip, IBlockAccessor accessor, IPluginConfig
                 security.readTag(accessor.getData().raw().getCompound("security"));
 
                 tooltip.addLine(Component.translatable("ui.machinelib.machine.redstone_mode.tooltip", redstone.getName()).setStyle(Constant.Text.RED_STYLE));
+                double energyIn = accessor.getData().raw().getDouble("energy_in");
+                double energyOut = accessor.getData().raw().getDouble("energy_out");
+                if (energyIn > 0 || energyOut > 0) {
+                    tooltip.addLine(Component.translatable(Constant.TranslationKey.ENERGY_FLOW,
+                            Component.literal(String.format(Locale.ROOT, "%.1f", energyIn)).setStyle(Constant.Text.GREEN_STYLE),
+                            Component.literal(String.format(Locale.ROOT, "%.1f", energyOut)).setStyle(Constant.Text.RED_STYLE)
+                    ).setStyle(Constant.Text.GRAY_STYLE));
+                }
                 if (security.getOwner() != null) {
                     Optional<GameProfile> profile = SkullBlockEntity.fetchGameProfile(security.getOwner()).getNow(null);
                     if (profile != null && profile.isPresent()) {
@@ -43,6 +43,8 @@ public class MachineLibConfig implements Config {
     public boolean enableColoredVanillaFluidNames = true;
     @Expose
     public FluidUnits fluidUnits = FluidUnits.MILLIBUCKET;
+    @Expose
+    public int menuSyncBandwidth = 32768;
 
     public MachineLibConfig(@Nullable File file) {
         this.file = file;
@@ -77,10 +79,21 @@ public void getFluidUnits(FluidUnits units) {
         this.fluidUnits = units;
     }
 
+    @Override
+    public int menuSyncBandwidth() {
+        return this.menuSyncBandwidth;
+    }
+
+    @Override
+    public void setMenuSyncBandwidth(int bandwidth) {
+        this.menuSyncBandwidth = Math.max(0, bandwidth);
+    }
+
     @Override
     public void copyFrom(Config config) {
         this.enableColoredVanillaFluidNames = config.enableColoredVanillaFluidNames();
         this.fluidUnits = config.fluidUnits();
+        this.menuSyncBandwidth = config.menuSyncBandwidth();
     }
 
     @Override
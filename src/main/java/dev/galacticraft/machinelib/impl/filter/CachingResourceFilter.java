@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.filter;
+
+import dev.galacticraft.machinelib.api.filter.ResourceFilter;
+import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import net.minecraft.core.component.DataComponentPatch;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A filter that memoizes the results of another (expensive) filter per resource and component patch.
+ * The cache is bounded and is invalidated whenever tags are reloaded (see {@link FilterGeneration}),
+ * as the results of most filters (API lookups, tag checks) may change across reloads.
+ *
+ * @param <Resource> the type of resource being filtered
+ */
+@ApiStatus.Internal
+public final class CachingResourceFilter<Resource> implements ResourceFilter<Resource> {
+    /**
+     * The maximum number of entries held by each cache before it is cleared.
+     */
+    private static final int MAX_ENTRIES = 256;
+
+    private final ResourceFilter<Resource> filter;
+    /**
+     * Results for resources without components (the most common case) - avoids allocating a key.
+     */
+    private final Reference2BooleanOpenHashMap<Resource> simple = new Reference2BooleanOpenHashMap<>();
+    /**
+     * Results for resources with components.
+     */
+    private final Object2BooleanOpenHashMap<Key<Resource>> complex = new Object2BooleanOpenHashMap<>();
+    private int cachedGeneration = FilterGeneration.get();
+
+    public CachingResourceFilter(@NotNull ResourceFilter<Resource> filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean test(@Nullable Resource resource, @NotNull DataComponentPatch components) {
+        if (resource == null) return this.filter.test(null, components);
+
+        Key<Resource> key = components.isEmpty() ? null : new Key<>(resource, components);
+        int generation;
+        synchronized (this) {
+            generation = FilterGeneration.get();
+            if (this.cachedGeneration != generation) {
+                this.cachedGeneration = generation;
+                this.simple.clear();
+                this.complex.clear();
+            } else if (key == null) {
+                if (this.simple.containsKey(resource)) return this.simple.getBoolean(resource);
+            } else {
+                if (this.complex.containsKey(key)) return this.complex.getBoolean(key);
+            }
+        }
+
+        // the wrapped filter may be slow, so other threads are not blocked while it runs
+        boolean result = this.filter.test(resource, components);
+
+        synchronized (this) {
+            // don't cache a result from before a reload
+            if (this.cachedGeneration == generation) {
+                if (key == null) {
+                    if (this.simple.size() >= MAX_ENTRIES) this.simple.clear();
+                    this.simple.put(resource, result);
+                } else {
+                    if (this.complex.size() >= MAX_ENTRIES) this.complex.clear();
+                    this.complex.put(key, result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private record Key<Resource>(@NotNull Resource resource, @NotNull DataComponentPatch components) {
+    }
+}
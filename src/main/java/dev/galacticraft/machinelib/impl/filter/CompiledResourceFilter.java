@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.filter;
+
+import dev.galacticraft.machinelib.api.filter.RegistryResourceFilter;
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.tags.TagKey;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.function.Consumer;
+
+/**
+ * A filter tree that is lowered to a {@link BitSet} over the raw ids of a registry.
+ * The set is (re)built lazily on the first test after creation, a tag reload or a change in registry size.
+ *
+ * @param <Resource> the type of resource being filtered
+ */
+@ApiStatus.Internal
+public abstract sealed class CompiledResourceFilter<Resource> implements RegistryResourceFilter<Resource> {
+    protected final @NotNull Registry<Resource> registry;
+    private volatile @Nullable Compiled compiled = null;
+
+    protected CompiledResourceFilter(@NotNull Registry<Resource> registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Writes the ids of every resource that passes this filter into the given set.
+     *
+     * @param ids the set to write into (initially empty)
+     */
+    protected abstract void compile(@NotNull BitSet ids);
+
+    /**
+     * {@return whether this filter accepts empty ({@code null}) resources}
+     */
+    protected abstract boolean matchesEmpty();
+
+    @Override
+    public @NotNull Registry<Resource> registry() {
+        return this.registry;
+    }
+
+    @Override
+    public boolean test(@Nullable Resource resource) {
+        if (resource == null) return this.matchesEmpty();
+        int id = this.registry.getId(resource);
+        return id != -1 && this.ids().get(id);
+    }
+
+    @Override
+    public @NotNull BitSet matchingIds() {
+        return (BitSet) this.ids().clone();
+    }
+
+    @Override
+    public void forEachMatching(@NotNull Consumer<Resource> consumer) {
+        BitSet ids = this.ids();
+        for (int i = ids.nextSetBit(0); i >= 0; i = ids.nextSetBit(i + 1)) {
+            Resource resource = this.registry.byId(i);
+            if (resource != null) consumer.accept(resource);
+        }
+    }
+
+    protected @NotNull BitSet ids() {
+        Compiled compiled = this.compiled;
+        int generation = FilterGeneration.get();
+        int size = this.registry.size();
+        if (compiled == null || compiled.generation != generation || compiled.size != size) {
+            BitSet ids = new BitSet(size);
+            this.compile(ids);
+            this.compiled = compiled = new Compiled(ids, generation, size);
+        }
+        return compiled.ids;
+    }
+
+    private record Compiled(BitSet ids, int generation, int size) {
+    }
+
+    public static final class Tag<Resource> extends CompiledResourceFilter<Resource> {
+        private final @NotNull TagKey<Resource> tag;
+
+        public Tag(@NotNull Registry<Resource> registry, @NotNull TagKey<Resource> tag) {
+            super(registry);
+            this.tag = tag;
+        }
+
+        @Override
+        protected void compile(@NotNull BitSet ids) {
+            for (Holder<Resource> holder : this.registry.getTagOrEmpty(this.tag)) {
+                ids.set(this.registry.getId(holder.value()));
+            }
+        }
+
+        @Override
+        protected boolean matchesEmpty() {
+            return false;
+        }
+    }
+
+    public static final class Single<Resource> extends CompiledResourceFilter<Resource> {
+        private final @NotNull Resource resource;
+
+        public Single(@NotNull Registry<Resource> registry, @NotNull Resource resource) {
+            super(registry);
+            this.resource = resource;
+        }
+
+        @Override
+        public boolean test(@Nullable Resource resource) {
+            return resource == this.resource;
+        }
+
+        @Override
+        protected void compile(@NotNull BitSet ids) {
+            int id = this.registry.getId(this.resource);
+            if (id != -1) ids.set(id);
+        }
+
+        @Override
+        protected boolean matchesEmpty() {
+            return false;
+        }
+    }
+
+    public static final class Not<Resource> extends CompiledResourceFilter<Resource> {
+        private final @NotNull CompiledResourceFilter<Resource> filter;
+
+        public Not(@NotNull CompiledResourceFilter<Resource> filter) {
+            super(filter.registry);
+            this.filter = filter;
+        }
+
+        @Override
+        protected void compile(@NotNull BitSet ids) {
+            ids.or(this.filter.ids());
+            ids.flip(0, this.registry.size());
+        }
+
+        @Override
+        protected boolean matchesEmpty() {
+            return !this.filter.matchesEmpty();
+        }
+    }
+
+    public static final class And<Resource> extends CompiledResourceFilter<Resource> {
+        private final @NotNull CompiledResourceFilter<Resource> a;
+        private final @NotNull CompiledResourceFilter<Resource> b;
+
+        public And(@NotNull CompiledResourceFilter<Resource> a, @NotNull CompiledResourceFilter<Resource> b) {
+            super(a.registry);
+            assert a.registry == b.registry;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        protected void compile(@NotNull BitSet ids) {
+            ids.or(this.a.ids());
+            ids.and(this.b.ids());
+        }
+
+        @Override
+        protected boolean matchesEmpty() {
+            return this.a.matchesEmpty() && this.b.matchesEmpty();
+        }
+    }
+
+    public static final class Or<Resource> extends CompiledResourceFilter<Resource> {
+        private final @NotNull CompiledResourceFilter<Resource> a;
+        private final @NotNull CompiledResourceFilter<Resource> b;
+
+        public Or(@NotNull CompiledResourceFilter<Resource> a, @NotNull CompiledResourceFilter<Resource> b) {
+            super(a.registry);
+            assert a.registry == b.registry;
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        protected void compile(@NotNull BitSet ids) {
+            ids.or(this.a.ids());
+            ids.or(this.b.ids());
+        }
+
+        @Override
+        protected boolean matchesEmpty() {
+            return this.a.matchesEmpty() || this.b.matchesEmpty();
+        }
+    }
+}
@@ -22,92 +22,364 @@
 
 package dev.galacticraft.machinelib.impl.menu;
 
+import dev.galacticraft.machinelib.api.config.Config;
 import dev.galacticraft.machinelib.api.menu.MenuData;
+import dev.galacticraft.machinelib.api.menu.SyncRate;
 import dev.galacticraft.machinelib.api.misc.DeltaPacketSerializable;
+import dev.galacticraft.machinelib.api.misc.Modifiable;
+import dev.galacticraft.machinelib.impl.MachineLib;
+import dev.galacticraft.machinelib.impl.menu.sync.ChangeMask;
 import dev.galacticraft.machinelib.impl.network.s2c.MenuSyncPayload;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.inventory.MenuType;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 public class MenuDataImpl extends MenuData {
     private final ServerPlayer player;
+    private final RegistryAccess registries;
+    /**
+     * The type of menu this data belongs to. Only menus of the same type share synchronization.
+     */
+    private final @Nullable MenuType<?> type;
+    /**
+     * The hub shared by every player viewing the same machine, or {@code null} if this menu is synchronized individually.
+     */
+    private @Nullable MenuSyncHub hub;
+    /**
+     * Whether this menu has joined the {@link #hub}.
+     */
+    private boolean joined = false;
     /**
      * The delta values of the data to be synchronized. Indices correspond to the data list.
      */
     private final List<? super Object> delta;
+    /**
+     * Holds the current values of this menu's data while comparing them to another menu. Indices correspond to the data list.
+     */
+    private final List<? super Object> scratch;
+    /**
+     * How often each datum is synchronized. Indices correspond to the data list.
+     */
+    private final List<SyncRate> rates;
+    /**
+     * The tick each datum was last checked for changes. Indices correspond to the data list.
+     */
+    private final IntList lastChecked;
+    /**
+     * The modification count of each {@link Modifiable} datum when it was last known to be synchronized. Indices correspond to the data list.
+     * Data that is not modifiable is always compared.
+     */
+    private final LongList modifications;
+    /**
+     * The data that changed since the last synchronization.
+     */
+    private final BitSet dirty;
+    /**
+     * The data written in the current synchronization.
+     */
+    private final BitSet sent;
+    /**
+     * The start and end of each datum's entry while encoding changes. Indices are twice those of the data list.
+     */
+    private final IntList offsets;
+    /**
+     * The number of times this menu has been synchronized.
+     */
+    private int ticks = 0;
+    /**
+     * The number of bytes that may still be sent before lower priority data is deferred.
+     * Refilled every tick, up to one second's worth of {@link Config#menuSyncBandwidth() bandwidth}.
+     */
+    private long allowance = 0;
 
-    public MenuDataImpl(ServerPlayer player, int syncId) {
+    public MenuDataImpl(ServerPlayer player, int syncId, @Nullable MenuType<?> type, @Nullable MenuSyncHub hub) {
+        this(player, player.registryAccess(), syncId, type, hub);
+    }
+
+    @VisibleForTesting
+    MenuDataImpl(ServerPlayer player, RegistryAccess registries, int syncId, @Nullable MenuType<?> type, @Nullable MenuSyncHub hub) {
         super(syncId);
         this.player = player;
+        this.registries = registries;
+        this.type = type;
+        this.hub = hub;
         this.delta = new ArrayList<>();
+        this.scratch = new ArrayList<>();
+        this.rates = new ArrayList<>();
+        this.lastChecked = new IntArrayList();
+        this.modifications = new LongArrayList();
+        this.dirty = new BitSet();
+        this.sent = new BitSet();
+        this.offsets = new IntArrayList();
     }
 
     @Override
-    public <T> void register(@NotNull DeltaPacketSerializable<? super RegistryFriendlyByteBuf, T> datum) {
-        super.register(datum);
+    public <T> void register(@NotNull DeltaPacketSerializable<? super RegistryFriendlyByteBuf, T> datum, @NotNull SyncRate rate) {
+        super.register(datum, rate);
         this.delta.add(datum.createEquivalent());
+        this.scratch.add(datum.createEquivalent());
+        this.rates.add(rate);
+        this.lastChecked.add(0);
+        this.modifications.add(Long.MIN_VALUE);
+        this.offsets.add(0);
+        this.offsets.add(0);
     }
 
     @Override
     public void synchronize() {
-        int size = this.data.size();
+        if (this.hub != null) {
+            if (this.joined || (this.joined = this.hub.join(this))) {
+                this.hub.synchronize(this);
+                return;
+            }
+            // the layout differs from the other viewers of the machine
+            this.hub = null;
+        }
+
+        ByteBuf body = this.writeChanges();
+        if (body != null) this.send(body);
+    }
+
+    /**
+     * Encodes the data that changed since the last synchronization.
+     *
+     * @return the encoded changes, or {@code null} if nothing needs to be sent
+     */
+    @Nullable ByteBuf writeChanges() {
+        this.ticks++;
+        int bandwidth = MachineLib.CONFIG.menuSyncBandwidth();
+        if (bandwidth > 0) {
+            this.allowance = Math.min(this.allowance + bandwidth / 20, bandwidth);
+        }
 
+        int size = this.data.size();
         int n = 0;
+        this.dirty.clear();
         for (int i = 0; i < size; i++) {
-            var key = (DeltaPacketSerializable<? super RegistryFriendlyByteBuf, ? super Object>) this.data.get(i);
-            if (key.hasChanged(this.delta.get(i))) n++;
-        }
+            if (this.ticks - this.lastChecked.getInt(i) < this.rates.get(i).interval()) continue;
 
-        if (n == size) {
-            synchronizeFull();
-            return;
+            if (this.hasChanged(i)) {
+                this.dirty.set(i);
+                n++;
+            } else {
+                this.lastChecked.set(i, this.ticks);
+            }
         }
 
-        if (n > 0) {
-            RegistryFriendlyByteBuf buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), this.player.registryAccess());
-            buf.writeVarInt(this.syncId);
-            buf.writeByte(n);
+        if (n == 0) return null;
+        if (n == size) return this.writeFull();
+
+        RegistryFriendlyByteBuf entries = this.createBuffer();
+        this.sent.clear();
+        for (SyncRate rate : SyncRate.VALUES) {
+            for (int i = this.dirty.nextSetBit(0); i >= 0; i = this.dirty.nextSetBit(i + 1)) {
+                if (this.rates.get(i) != rate) continue;
+                // lower priority data stays dirty, and is checked again next tick
+                if (bandwidth > 0 && rate != SyncRate.REALTIME && entries.readableBytes() >= this.allowance) continue;
 
-            for (int i = 0; i < size; i++) {
                 var key = (DeltaPacketSerializable<? super RegistryFriendlyByteBuf, ? super Object>) this.data.get(i);
                 Object data = this.delta.get(i);
 
-                if (key.hasChanged(data)) {
-                    buf.writeByte(i);
-                    key.writeDeltaPacket(buf, data);
-                    key.copyInto(data);
-                }
+                this.offsets.set(i * 2, entries.writerIndex());
+                key.writeDeltaPacket(entries, data);
+                key.copyInto(data);
+                this.offsets.set(i * 2 + 1, entries.writerIndex());
+                this.markSynchronized(i);
+                this.sent.set(i);
             }
+        }
+
+        if (this.sent.isEmpty()) {
+            entries.release();
+            return null;
+        }
 
-            ServerPlayNetworking.getSender(this.player).sendPacket(new MenuSyncPayload(buf));
+        // entries are independent, so they are written in index order regardless of priority
+        boolean mask = ChangeMask.prefersMask(size, ChangeMask.indexSize(this.sent));
+        RegistryFriendlyByteBuf buf = this.createBuffer();
+        buf.writeVarInt(this.sent.cardinality() << 1 | (mask ? 1 : 0));
+        if (mask) ChangeMask.writeMask(buf, this.sent, size);
+        for (int i = this.sent.nextSetBit(0); i >= 0; i = this.sent.nextSetBit(i + 1)) {
+            if (!mask) buf.writeVarInt(i);
+            int start = this.offsets.getInt(i * 2);
+            buf.writeBytes(entries, start, this.offsets.getInt(i * 2 + 1) - start);
+        }
+        entries.release();
+
+        if (bandwidth > 0) this.allowance -= buf.readableBytes();
+        return buf;
+    }
+
+    /**
+     * Checks whether a datum differs from the last synchronized value.
+     * {@link Modifiable} data is only compared if it has been modified since it was last synchronized.
+     *
+     * @param i the index of the datum
+     * @return whether the datum has changed
+     */
+    private boolean hasChanged(int i) {
+        var key = (DeltaPacketSerializable<? super RegistryFriendlyByteBuf, ? super Object>) this.data.get(i);
+        if (key instanceof Modifiable modifiable) {
+            long modifications = modifiable.getModifications();
+            if (this.modifications.getLong(i) == modifications) return false;
+            if (!key.hasChanged(this.delta.get(i))) {
+                this.modifications.set(i, modifications);
+                return false;
+            }
+            return true;
+        }
+        return key.hasChanged(this.delta.get(i));
+    }
+
+    private void markSynchronized(int i) {
+        this.lastChecked.set(i, this.ticks);
+        if (this.data.get(i) instanceof Modifiable modifiable) {
+            this.modifications.set(i, modifiable.getModifications());
         }
     }
 
     @Override
     public void synchronizeFull() {
-        RegistryFriendlyByteBuf buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), this.player.registryAccess());
-        buf.writeVarInt(this.syncId);
-        buf.writeByte(this.data.size());
+        if (this.joined) {
+            this.hub.synchronizeFull();
+        } else {
+            this.send(this.writeFull());
+        }
+    }
+
+    /**
+     * Encodes all data, regardless of whether it changed.
+     *
+     * @return the encoded data
+     */
+    @NotNull ByteBuf writeFull() {
+        RegistryFriendlyByteBuf buf = this.createBuffer();
+        buf.writeVarInt(this.data.size() << 1);
         for (int i = 0; i < this.data.size(); i++) {
             var datum = (DeltaPacketSerializable<? super RegistryFriendlyByteBuf, ? super Object>) this.data.get(i);
             datum.writePacket(buf);
             datum.copyInto(this.delta.get(i));
+            this.markSynchronized(i);
         }
 
+        if (MachineLib.CONFIG.menuSyncBandwidth() > 0) this.allowance -= buf.readableBytes();
+        return buf;
+    }
+
+    /**
+     * Sends encoded data to this player. Takes ownership of the buffer.
+     *
+     * @param body the encoded data
+     */
+    void send(@NotNull ByteBuf body) {
+        ByteBuf header = ByteBufAllocator.DEFAULT.buffer(5);
+        VarInt.write(header, this.syncId);
+        RegistryFriendlyByteBuf buf = new RegistryFriendlyByteBuf(Unpooled.wrappedBuffer(header, body), this.registries);
         ServerPlayNetworking.getSender(this.player).sendPacket(new MenuSyncPayload(buf));
     }
 
+    /**
+     * Stops sharing synchronization with the other viewers of the machine.
+     */
+    public void close() {
+        if (this.joined) {
+            this.hub.leave(this);
+            this.joined = false;
+        }
+        this.hub = null;
+    }
+
+    /**
+     * {@return whether the given menu data can share synchronization with this one}
+     * Both must belong to the same type of menu and register the same kinds of data at the same rates.
+     *
+     * @param other the other menu data
+     */
+    boolean isCompatible(@NotNull MenuDataImpl other) {
+        if (this.type == null || this.type != other.type || this.data.size() != other.data.size() || !this.rates.equals(other.rates)) return false;
+        for (int i = 0; i < this.data.size(); i++) {
+            if (this.data.get(i).getClass() != other.data.get(i).getClass()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * {@return whether the given menu data currently holds the same values as this one}
+     * Data registered by both menus is only compared if it is not the same instance,
+     * such as a value each menu copied from the machine when it was opened.
+     *
+     * @param other the other menu data
+     */
+    boolean matches(@NotNull MenuDataImpl other) {
+        for (int i = 0; i < this.data.size(); i++) {
+            if (this.data.get(i) == other.data.get(i)) continue;
+
+            Object value = this.scratch.get(i);
+            ((DeltaPacketSerializable<? super RegistryFriendlyByteBuf, ? super Object>) this.data.get(i)).copyInto(value);
+            if (((DeltaPacketSerializable<? super RegistryFriendlyByteBuf, ? super Object>) other.data.get(i)).hasChanged(value)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stops sharing synchronization and sends all data to this player.
+     * The client received the data of another menu, which may differ from this one's.
+     */
+    void detach() {
+        this.joined = false;
+        this.hub = null;
+        this.send(this.writeFull());
+    }
+
+    /**
+     * Takes over the synchronization state of the previous leader of the hub.
+     * The clients of both menus received the same data, so the last-sent state is interchangeable.
+     *
+     * @param previous the previous leader
+     */
+    void adopt(@NotNull MenuDataImpl previous) {
+        for (int i = 0; i < this.data.size(); i++) {
+            this.delta.set(i, previous.delta.get(i));
+            this.lastChecked.set(i, previous.lastChecked.getInt(i));
+            // modification counts are only meaningful for the same instance
+            this.modifications.set(i, this.data.get(i) == previous.data.get(i) ? previous.modifications.getLong(i) : Long.MIN_VALUE);
+        }
+        this.ticks = previous.ticks;
+        this.allowance = previous.allowance;
+    }
+
+    int getServerTick() {
+        return this.player.server.getTickCount();
+    }
+
+    private @NotNull RegistryFriendlyByteBuf createBuffer() {
+        return new RegistryFriendlyByteBuf(ByteBufAllocator.DEFAULT.buffer(), this.registries);
+    }
+
     @Override
     public void synchronizeInitial(RegistryFriendlyByteBuf buf) {
         for (int i = 0; i < this.data.size(); i++) {
             var datum = (DeltaPacketSerializable<? super RegistryFriendlyByteBuf, ? super Object>) this.data.get(i);
             datum.writePacket(buf);
             datum.copyInto(this.delta.get(i));
+            this.markSynchronized(i);
         }
     }
 
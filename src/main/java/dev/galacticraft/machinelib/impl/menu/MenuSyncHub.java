@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.menu;
+
+import io.netty.buffer.ByteBuf;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shares menu synchronization between every player viewing the same machine.
+ * Changes are detected and encoded once per tick by the first viewer (the leader) and the resulting bytes are sent to
+ * every viewer, so all viewers share the leader's last-sent state.
+ * Menus whose data layout does not match the leader's are synchronized individually,
+ * as are menus whose own data (data that is not the same instance as the leader's) holds different values.
+ */
+@ApiStatus.Internal
+public final class MenuSyncHub {
+    /**
+     * The menus sharing synchronization. The first viewer holds the shared state.
+     */
+    private final List<MenuDataImpl> viewers = new ArrayList<>(1);
+    /**
+     * The server tick this hub was last synchronized on.
+     */
+    private int lastTick = -1;
+    /**
+     * Whether every viewer should receive all data on the next synchronization.
+     */
+    private boolean resync = false;
+
+    /**
+     * Attempts to share synchronization with the other viewers of this machine.
+     *
+     * @param viewer the menu data of the new viewer
+     * @return whether the viewer joined, or {@code false} if it must be synchronized individually
+     */
+    boolean join(@NotNull MenuDataImpl viewer) {
+        if (!this.viewers.isEmpty()) {
+            MenuDataImpl leader = this.viewers.get(0);
+            if (!leader.isCompatible(viewer) || !leader.matches(viewer)) return false;
+            // the new viewer's client does not share the last-sent state
+            this.resync = true;
+        }
+        this.viewers.add(viewer);
+        return true;
+    }
+
+    /**
+     * Removes a viewer. If it was the leader, its state is handed over to the next viewer.
+     *
+     * @param viewer the menu data of the viewer
+     */
+    void leave(@NotNull MenuDataImpl viewer) {
+        int index = this.viewers.indexOf(viewer);
+        if (index == -1) return;
+        this.viewers.remove(index);
+        if (index == 0 && !this.viewers.isEmpty()) {
+            this.viewers.get(0).adopt(viewer);
+        }
+    }
+
+    /**
+     * Synchronizes every viewer, at most once per server tick.
+     *
+     * @param viewer the viewer requesting synchronization
+     */
+    void synchronize(@NotNull MenuDataImpl viewer) {
+        int tick = viewer.getServerTick();
+        if (tick == this.lastTick) return;
+        this.lastTick = tick;
+
+        MenuDataImpl leader = this.split();
+        ByteBuf body = this.resync ? leader.writeFull() : leader.writeChanges();
+        this.resync = false;
+        if (body != null) this.broadcast(body);
+    }
+
+    /**
+     * Sends all data to every viewer.
+     */
+    void synchronizeFull() {
+        this.resync = false;
+        this.broadcast(this.split().writeFull());
+    }
+
+    /**
+     * Detaches every viewer whose own data no longer matches the leader's.
+     *
+     * @return the leader
+     */
+    private @NotNull MenuDataImpl split() {
+        MenuDataImpl leader = this.viewers.get(0);
+        for (int i = this.viewers.size() - 1; i > 0; i--) {
+            MenuDataImpl viewer = this.viewers.get(i);
+            if (!leader.matches(viewer)) {
+                this.viewers.remove(i);
+                viewer.detach();
+            }
+        }
+        return leader;
+    }
+
+    private void broadcast(@NotNull ByteBuf body) {
+        try {
+            for (MenuDataImpl viewer : this.viewers) {
+                viewer.send(body.retainedDuplicate());
+            }
+        } finally {
+            body.release();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.menu.sync;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.VarInt;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.BitSet;
+
+/**
+ * Encodes which entries of a fixed-size list changed.
+ * <p>
+ * Changed entries are identified either by their varint index, or by a bitset over every entry when that is smaller
+ * (i.e. when a large fraction of the entries changed).
+ */
+@ApiStatus.Internal
+public final class ChangeMask {
+    private ChangeMask() {
+    }
+
+    /**
+     * {@return the number of bytes a mask over the given number of entries takes}
+     *
+     * @param size the number of entries
+     */
+    @Contract(pure = true)
+    public static int maskSize(int size) {
+        return (size + 7) >>> 3;
+    }
+
+    /**
+     * {@return the number of bytes the varint indices of the given entries take}
+     *
+     * @param changed the changed entries
+     */
+    @Contract(pure = true)
+    public static int indexSize(@NotNull BitSet changed) {
+        int bytes = 0;
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+            bytes += VarInt.getByteSize(i);
+        }
+        return bytes;
+    }
+
+    /**
+     * {@return whether a mask is smaller than writing each index}
+     *
+     * @param size the number of entries
+     * @param indexSize the number of bytes the indices take
+     */
+    @Contract(pure = true)
+    public static boolean prefersMask(int size, int indexSize) {
+        return prefersMask(size, indexSize, 1);
+    }
+
+    /**
+     * {@return whether the given number of masks is smaller than writing each index}
+     *
+     * @param size the number of entries
+     * @param indexSize the number of bytes the indices take
+     * @param masks the number of masks that would be written instead of the indices
+     */
+    @Contract(pure = true)
+    public static boolean prefersMask(int size, int indexSize, int masks) {
+        return masks * maskSize(size) < indexSize;
+    }
+
+    public static void writeMask(@NotNull ByteBuf buf, @NotNull BitSet mask, int size) {
+        assert mask.length() <= size;
+        byte[] bytes = mask.toByteArray();
+        buf.writeBytes(bytes);
+        buf.writeZero(maskSize(size) - bytes.length);
+    }
+
+    public static @NotNull BitSet readMask(@NotNull ByteBuf buf, int size) {
+        byte[] bytes = new byte[maskSize(size)];
+        buf.readBytes(bytes);
+        return BitSet.valueOf(bytes);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.menu.sync;
+
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.VarLong;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Encodes numbers relative to their previously synchronized value.
+ * <p>
+ * Integral values are written as the zigzag-encoded varint of their difference, so small changes in either direction take one or two bytes.
+ * Floating point values are written as the varint of their bits XORed with the previous bits,
+ * which drops the sign, exponent and leading mantissa bits that did not change.
+ */
+@ApiStatus.Internal
+public final class DeltaEncoding {
+    private DeltaEncoding() {
+    }
+
+    public static void writeInt(@NotNull ByteBuf buf, int value, int previous) {
+        VarInt.write(buf, zigzag(value - previous));
+    }
+
+    public static int readInt(@NotNull ByteBuf buf, int previous) {
+        return previous + unzigzag(VarInt.read(buf));
+    }
+
+    public static void writeLong(@NotNull ByteBuf buf, long value, long previous) {
+        VarLong.write(buf, zigzag(value - previous));
+    }
+
+    public static long readLong(@NotNull ByteBuf buf, long previous) {
+        return previous + unzigzag(VarLong.read(buf));
+    }
+
+    public static void writeFloat(@NotNull ByteBuf buf, float value, float previous) {
+        VarInt.write(buf, Float.floatToRawIntBits(value) ^ Float.floatToRawIntBits(previous));
+    }
+
+    public static float readFloat(@NotNull ByteBuf buf, float previous) {
+        return Float.intBitsToFloat(VarInt.read(buf) ^ Float.floatToRawIntBits(previous));
+    }
+
+    public static void writeDouble(@NotNull ByteBuf buf, double value, double previous) {
+        VarLong.write(buf, Double.doubleToRawLongBits(value) ^ Double.doubleToRawLongBits(previous));
+    }
+
+    public static double readDouble(@NotNull ByteBuf buf, double previous) {
+        return Double.longBitsToDouble(VarLong.read(buf) ^ Double.doubleToRawLongBits(previous));
+    }
+
+    @Contract(pure = true)
+    public static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    @Contract(pure = true)
+    public static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    @Contract(pure = true)
+    public static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    @Contract(pure = true)
+    public static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
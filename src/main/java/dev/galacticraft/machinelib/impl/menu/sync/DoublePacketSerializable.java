@@ -29,8 +29,19 @@
 import java.util.function.DoubleConsumer;
 import java.util.function.DoubleSupplier;
 
-public record DoublePacketSerializable(DoubleSupplier getter,
-                                       DoubleConsumer setter) implements DeltaPacketSerializable<ByteBuf, double[]> {
+public final class DoublePacketSerializable implements DeltaPacketSerializable<ByteBuf, double[]> {
+    private final DoubleSupplier getter;
+    private final DoubleConsumer setter;
+    /**
+     * The last value received from the server. Only used on the client.
+     */
+    private double received;
+
+    public DoublePacketSerializable(DoubleSupplier getter, DoubleConsumer setter) {
+        this.getter = getter;
+        this.setter = setter;
+    }
+
     @Override
     public boolean hasChanged(double[] previous) {
         return previous[0] != this.getter.getAsDouble();
@@ -43,7 +54,8 @@ public void copyInto(double[] other) {
 
     @Override
     public void readPacket(@NotNull ByteBuf buf) {
-        this.setter.accept(buf.readDouble());
+        this.received = buf.readDouble();
+        this.setter.accept(this.received);
     }
 
     @Override
@@ -51,6 +63,17 @@ public void writePacket(@NotNull ByteBuf buf) {
         buf.writeDouble(this.getter.getAsDouble());
     }
 
+    @Override
+    public void readDeltaPacket(@NotNull ByteBuf buf) {
+        this.received = DeltaEncoding.readDouble(buf, this.received);
+        this.setter.accept(this.received);
+    }
+
+    @Override
+    public void writeDeltaPacket(@NotNull ByteBuf buf, double[] previous) {
+        DeltaEncoding.writeDouble(buf, this.getter.getAsDouble(), previous[0]);
+    }
+
     @Override
     public double[] createEquivalent() {
         return new double[1];
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.menu.sync;
+
+import dev.galacticraft.machinelib.api.menu.ExtrapolatedLong;
+import dev.galacticraft.machinelib.api.misc.DeltaPacketSerializable;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.VarLong;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Synchronizes a value and its rate of change.
+ * The value is only considered changed when it differs from what the client extrapolates from the last synchronization.
+ * The previous state holds the last value sent, its rate and the time it was sent at.
+ */
+public final class ExtrapolatedPacketSerializable implements DeltaPacketSerializable<ByteBuf, long[]> {
+    private final LongSupplier getter;
+    private final LongSupplier rate;
+    private final ExtrapolatedLong target;
+    /**
+     * The last value received from the server. Only used on the client.
+     */
+    private long received;
+    /**
+     * The last rate received from the server. Only used on the client.
+     */
+    private long receivedRate;
+
+    public ExtrapolatedPacketSerializable(LongSupplier getter, LongSupplier rate, ExtrapolatedLong target) {
+        this.getter = getter;
+        this.rate = rate;
+        this.target = target;
+    }
+
+    @Override
+    public boolean hasChanged(long[] previous) {
+        long rate = this.rate.getAsLong();
+        return previous[1] != rate || previous[0] + rate * (this.target.getTime() - previous[2]) != this.getter.getAsLong();
+    }
+
+    @Override
+    public void copyInto(long[] other) {
+        other[0] = this.getter.getAsLong();
+        other[1] = this.rate.getAsLong();
+        other[2] = this.target.getTime();
+    }
+
+    @Override
+    public void readPacket(@NotNull ByteBuf buf) {
+        this.received = VarLong.read(buf);
+        this.receivedRate = VarLong.read(buf);
+        this.target.set(this.received, this.receivedRate);
+    }
+
+    @Override
+    public void writePacket(@NotNull ByteBuf buf) {
+        VarLong.write(buf, this.getter.getAsLong());
+        VarLong.write(buf, this.rate.getAsLong());
+    }
+
+    @Override
+    public void readDeltaPacket(@NotNull ByteBuf buf) {
+        this.received = DeltaEncoding.readLong(buf, this.received);
+        this.receivedRate = DeltaEncoding.readLong(buf, this.receivedRate);
+        this.target.set(this.received, this.receivedRate);
+    }
+
+    @Override
+    public void writeDeltaPacket(@NotNull ByteBuf buf, long[] previous) {
+        // relative to the last value sent, as the client may not agree on how many ticks have passed since
+        DeltaEncoding.writeLong(buf, this.getter.getAsLong(), previous[0]);
+        DeltaEncoding.writeLong(buf, this.rate.getAsLong(), previous[1]);
+    }
+
+    @Override
+    public long[] createEquivalent() {
+        return new long[3];
+    }
+}
@@ -28,8 +28,19 @@
 import it.unimi.dsi.fastutil.floats.FloatConsumer;
 import org.jetbrains.annotations.NotNull;
 
-public record FloatPacketSerializable(FloatSupplier getter,
-                                      FloatConsumer setter) implements DeltaPacketSerializable<ByteBuf, float[]> {
+public final class FloatPacketSerializable implements DeltaPacketSerializable<ByteBuf, float[]> {
+    private final FloatSupplier getter;
+    private final FloatConsumer setter;
+    /**
+     * The last value received from the server. Only used on the client.
+     */
+    private float received;
+
+    public FloatPacketSerializable(FloatSupplier getter, FloatConsumer setter) {
+        this.getter = getter;
+        this.setter = setter;
+    }
+
     @Override
     public boolean hasChanged(float[] previous) {
         return previous[0] != this.getter.getAsFloat();
@@ -42,7 +53,8 @@ public void copyInto(float[] other) {
 
     @Override
     public void readPacket(@NotNull ByteBuf buf) {
-        this.setter.accept(buf.readFloat());
+        this.received = buf.readFloat();
+        this.setter.accept(this.received);
     }
 
     @Override
@@ -50,6 +62,17 @@ public void writePacket(@NotNull ByteBuf buf) {
         buf.writeFloat(this.getter.getAsFloat());
     }
 
+    @Override
+    public void readDeltaPacket(@NotNull ByteBuf buf) {
+        this.received = DeltaEncoding.readFloat(buf, this.received);
+        this.setter.accept(this.received);
+    }
+
+    @Override
+    public void writeDeltaPacket(@NotNull ByteBuf buf, float[] previous) {
+        DeltaEncoding.writeFloat(buf, this.getter.getAsFloat(), previous[0]);
+    }
+
     @Override
     public float[] createEquivalent() {
         return new float[1];
@@ -29,8 +29,19 @@
 import java.util.function.IntConsumer;
 import java.util.function.IntSupplier;
 
-public record IntPacketSerializable(IntSupplier getter,
-                                    IntConsumer setter) implements DeltaPacketSerializable<ByteBuf, int[]> {
+public final class IntPacketSerializable implements DeltaPacketSerializable<ByteBuf, int[]> {
+    private final IntSupplier getter;
+    private final IntConsumer setter;
+    /**
+     * The last value received from the server. Only used on the client.
+     */
+    private int received;
+
+    public IntPacketSerializable(IntSupplier getter, IntConsumer setter) {
+        this.getter = getter;
+        this.setter = setter;
+    }
+
     @Override
     public boolean hasChanged(int[] previous) {
         return previous[0] != this.getter.getAsInt();
@@ -43,7 +54,8 @@ public void copyInto(int[] other) {
 
     @Override
     public void readPacket(@NotNull ByteBuf buf) {
-        this.setter.accept(buf.readInt());
+        this.received = buf.readInt();
+        this.setter.accept(this.received);
     }
 
     @Override
@@ -51,6 +63,17 @@ public void writePacket(@NotNull ByteBuf buf) {
         buf.writeInt(this.getter.getAsInt());
     }
 
+    @Override
+    public void readDeltaPacket(@NotNull ByteBuf buf) {
+        this.received = DeltaEncoding.readInt(buf, this.received);
+        this.setter.accept(this.received);
+    }
+
+    @Override
+    public void writeDeltaPacket(@NotNull ByteBuf buf, int[] previous) {
+        DeltaEncoding.writeInt(buf, this.getter.getAsInt(), previous[0]);
+    }
+
     @Override
     public int[] createEquivalent() {
         return new int[1];
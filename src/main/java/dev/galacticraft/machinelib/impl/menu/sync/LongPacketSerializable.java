@@ -29,8 +29,19 @@
 import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
 
-public record LongPacketSerializable(LongSupplier getter,
-                                     LongConsumer setter) implements DeltaPacketSerializable<ByteBuf, long[]> {
+public final class LongPacketSerializable implements DeltaPacketSerializable<ByteBuf, long[]> {
+    private final LongSupplier getter;
+    private final LongConsumer setter;
+    /**
+     * The last value received from the server. Only used on the client.
+     */
+    private long received;
+
+    public LongPacketSerializable(LongSupplier getter, LongConsumer setter) {
+        this.getter = getter;
+        this.setter = setter;
+    }
+
     @Override
     public boolean hasChanged(long[] previous) {
         return previous[0] != this.getter.getAsLong();
@@ -43,7 +54,8 @@ public void copyInto(long[] other) {
 
     @Override
     public void readPacket(@NotNull ByteBuf buf) {
-        this.setter.accept(buf.readLong());
+        this.received = buf.readLong();
+        this.setter.accept(this.received);
     }
 
     @Override
@@ -51,6 +63,17 @@ public void writePacket(@NotNull ByteBuf buf) {
         buf.writeLong(this.getter.getAsLong());
     }
 
+    @Override
+    public void readDeltaPacket(@NotNull ByteBuf buf) {
+        this.received = DeltaEncoding.readLong(buf, this.received);
+        this.setter.accept(this.received);
+    }
+
+    @Override
+    public void writeDeltaPacket(@NotNull ByteBuf buf, long[] previous) {
+        DeltaEncoding.writeLong(buf, this.getter.getAsLong(), previous[0]);
+    }
+
     @Override
     public long[] createEquivalent() {
         return new long[1];
@@ -32,9 +32,15 @@
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 
+/**
+ * Synchronizes the data of an open machine menu.
+ * The buffer is pooled: it is released when the payload is encoded, or after it has been applied on the client.
+ *
+ * @param buf the encoded menu data
+ */
 public record MenuSyncPayload(RegistryFriendlyByteBuf buf) implements CustomPacketPayload {
     public static final Type<MenuSyncPayload> TYPE = new Type<>(Constant.id("menu_sync"));
-    public static final StreamCodec<RegistryFriendlyByteBuf, MenuSyncPayload> CODEC = Utils.BUF_IDENTITY_CODEC.map(MenuSyncPayload::new, MenuSyncPayload::buf);
+    public static final StreamCodec<RegistryFriendlyByteBuf, MenuSyncPayload> CODEC = Utils.RETAINED_BUF_CODEC.map(MenuSyncPayload::new, MenuSyncPayload::buf);
 
     @Override
     public Type<? extends CustomPacketPayload> type() {
@@ -42,18 +48,22 @@ public Type<? extends CustomPacketPayload> type() {
     }
 
     public void apply(ClientPlayNetworking.Context context) {
-        int syncId = this.buf.readVarInt();
-        LocalPlayer player = context.player();
-        if (player != null) {
-            if (player.containerMenu instanceof MachineMenu<?> menu && syncId == menu.containerId) {
-                menu.getData().handle(this.buf);
-            } else {
-                if (player.containerMenu.containerId != 0) {
-                    MachineLib.LOGGER.warn("Received menu sync packet for invalid menu ID: {} (active: {})", syncId, player.containerMenu.containerId);
+        try {
+            int syncId = this.buf.readVarInt();
+            LocalPlayer player = context.player();
+            if (player != null) {
+                if (player.containerMenu instanceof MachineMenu<?> menu && syncId == menu.containerId) {
+                    menu.getData().handle(this.buf);
                 } else {
-                    MachineLib.LOGGER.debug("Received menu sync packet for '{}' with no menu open", syncId);
+                    if (player.containerMenu.containerId != 0) {
+                        MachineLib.LOGGER.warn("Received menu sync packet for invalid menu ID: {} (active: {})", syncId, player.containerMenu.containerId);
+                    } else {
+                        MachineLib.LOGGER.debug("Received menu sync packet for '{}' with no menu open", syncId);
+                    }
                 }
             }
+        } finally {
+            this.buf.release();
         }
     }
 }
@@ -23,6 +23,8 @@
 package dev.galacticraft.machinelib.impl.network.s2c;
 
 import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
+import dev.galacticraft.machinelib.api.machine.configuration.IOConfig;
+import dev.galacticraft.machinelib.api.machine.configuration.IOFace;
 import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
 import dev.galacticraft.machinelib.api.transfer.ResourceType;
 import dev.galacticraft.machinelib.api.util.BlockFace;
@@ -32,17 +34,69 @@
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import org.jetbrains.annotations.NotNull;
 
-public record SideConfigurationUpdatePayload(BlockPos pos, BlockFace face, ResourceType resource,
-                                             ResourceFlow flow) implements CustomPacketPayload {
+/**
+ * Updates the configuration of one or more faces of a machine.
+ *
+ * @param pos the position of the machine
+ * @param faces the faces that changed, as a bitmask of {@link BlockFace} ordinals
+ * @param options the {@link IOFace#pack(ResourceType, ResourceFlow) packed} configuration of each face, one byte per face ordinal. Only changed faces are sent
+ */
+public record SideConfigurationUpdatePayload(BlockPos pos, int faces, long options) implements CustomPacketPayload {
     public static final Type<SideConfigurationUpdatePayload> TYPE = new Type<>(Constant.id("io_update"));
-    public static final StreamCodec<ByteBuf, SideConfigurationUpdatePayload> CODEC = StreamCodec.composite(
-            BlockPos.STREAM_CODEC, p -> p.pos,
-            BlockFace.CODEC, p -> p.face,
-            ResourceType.STREAM_CODEC, p -> p.resource,
-            ResourceFlow.STREAM_CODEC, p -> p.flow,
-            SideConfigurationUpdatePayload::new
-    );
+    public static final StreamCodec<ByteBuf, SideConfigurationUpdatePayload> CODEC = StreamCodec.of(SideConfigurationUpdatePayload::write, SideConfigurationUpdatePayload::read);
+
+    /**
+     * Creates a payload containing the current configuration of the given faces.
+     *
+     * @param pos the position of the machine
+     * @param faces the faces that changed, as a bitmask of {@link BlockFace} ordinals
+     * @param config the configuration of the machine
+     * @return the payload
+     */
+    public static @NotNull SideConfigurationUpdatePayload create(BlockPos pos, int faces, @NotNull IOConfig config) {
+        long options = 0;
+        for (BlockFace face : BlockFace.values()) {
+            if ((faces & 1 << face.ordinal()) != 0) {
+                IOFace option = config.get(face);
+                options |= (IOFace.pack(option.getType(), option.getFlow()) & 0xFFL) << (face.ordinal() * Byte.SIZE);
+            }
+        }
+        return new SideConfigurationUpdatePayload(pos, faces, options);
+    }
+
+    private static void write(ByteBuf buf, SideConfigurationUpdatePayload payload) {
+        BlockPos.STREAM_CODEC.encode(buf, payload.pos);
+        buf.writeByte(payload.faces);
+        for (BlockFace face : BlockFace.values()) {
+            if ((payload.faces & 1 << face.ordinal()) != 0) {
+                buf.writeByte(payload.option(face));
+            }
+        }
+    }
+
+    private static SideConfigurationUpdatePayload read(ByteBuf buf) {
+        BlockPos pos = BlockPos.STREAM_CODEC.decode(buf);
+        int faces = buf.readUnsignedByte();
+        long options = 0;
+        for (BlockFace face : BlockFace.values()) {
+            if ((faces & 1 << face.ordinal()) != 0) {
+                options |= (buf.readByte() & 0xFFL) << (face.ordinal() * Byte.SIZE);
+            }
+        }
+        return new SideConfigurationUpdatePayload(pos, faces, options);
+    }
+
+    /**
+     * Returns the packed configuration of the given face.
+     *
+     * @param face the face to get the configuration of
+     * @return the {@link IOFace#pack(ResourceType, ResourceFlow) packed} configuration, or {@code 0} if the face did not change
+     */
+    public byte option(@NotNull BlockFace face) {
+        return (byte) (this.options >>> (face.ordinal() * Byte.SIZE));
+    }
 
     @Override
     public Type<? extends CustomPacketPayload> type() {
@@ -51,7 +105,12 @@ public Type<? extends CustomPacketPayload> type() {
 
     public void apply(ClientPlayNetworking.Context context) {
         if (context.client().level.getBlockEntity(this.pos) instanceof MachineBlockEntity machine) {
-            machine.getIOConfig().get(this.face).setOption(this.resource, this.flow);
+            for (BlockFace face : BlockFace.values()) {
+                if ((this.faces & 1 << face.ordinal()) != 0) {
+                    byte packed = this.option(face);
+                    machine.getIOConfig().get(face).setOption(IOFace.unpackType(packed), IOFace.unpackFlow(packed));
+                }
+            }
             machine.setChanged();
         }
     }
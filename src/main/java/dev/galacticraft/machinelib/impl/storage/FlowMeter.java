@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.storage;
+
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Tracks how much of a resource entered and left a storage over the last {@link #WINDOW} ticks.
+ * Amounts are kept in a ring buffer indexed by game time, so both recording and averaging are constant time.
+ */
+@ApiStatus.Internal
+public final class FlowMeter {
+    /**
+     * The number of ticks averaged over.
+     */
+    public static final int WINDOW = 20;
+
+    private final long[] inserted = new long[WINDOW];
+    private final long[] extracted = new long[WINDOW];
+    private long insertedTotal = 0;
+    private long extractedTotal = 0;
+    private long tick = Long.MIN_VALUE;
+
+    public void recordInsertion(long time, long amount) {
+        this.advance(time);
+        this.inserted[index(time)] += amount;
+        this.insertedTotal += amount;
+    }
+
+    public void recordExtraction(long time, long amount) {
+        this.advance(time);
+        this.extracted[index(time)] += amount;
+        this.extractedTotal += amount;
+    }
+
+    /**
+     * {@return the average amount inserted per tick}
+     *
+     * @param time the current game time
+     */
+    public double averageInsertion(long time) {
+        this.advance(time);
+        return (double) this.insertedTotal / WINDOW;
+    }
+
+    /**
+     * {@return the average amount extracted per tick}
+     *
+     * @param time the current game time
+     */
+    public double averageExtraction(long time) {
+        this.advance(time);
+        return (double) this.extractedTotal / WINDOW;
+    }
+
+    /**
+     * Drops the amounts recorded for the ticks that are no longer part of the window.
+     *
+     * @param time the current game time
+     */
+    private void advance(long time) {
+        if (time <= this.tick) return;
+
+        if (this.tick == Long.MIN_VALUE || time - this.tick >= WINDOW) {
+            for (int i = 0; i < WINDOW; i++) {
+                this.inserted[i] = 0;
+                this.extracted[i] = 0;
+            }
+            this.insertedTotal = 0;
+            this.extractedTotal = 0;
+        } else {
+            for (long t = this.tick + 1; t <= time; t++) {
+                int i = index(t);
+                this.insertedTotal -= this.inserted[i];
+                this.extractedTotal -= this.extracted[i];
+                this.inserted[i] = 0;
+                this.extracted[i] = 0;
+            }
+        }
+        this.tick = time;
+    }
+
+    private static int index(long time) {
+        return Math.floorMod(time, WINDOW);
+    }
+}
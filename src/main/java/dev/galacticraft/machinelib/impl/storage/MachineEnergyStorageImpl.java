@@ -25,10 +25,12 @@
 import dev.galacticraft.machinelib.api.compat.transfer.ExposedEnergyStorage;
 import dev.galacticraft.machinelib.api.storage.MachineEnergyStorage;
 import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
+import dev.galacticraft.machinelib.impl.menu.sync.DeltaEncoding;
 import io.netty.buffer.ByteBuf;
 import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
 import net.fabricmc.fabric.api.transfer.v1.transaction.base.SnapshotParticipant;
 import net.minecraft.nbt.LongTag;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -44,6 +46,12 @@ public final class MachineEnergyStorageImpl extends SnapshotParticipant<Long> im
     public long amount = 0;
     private BlockEntity parent;
 
+    private final FlowMeter meter = new FlowMeter();
+    /**
+     * The amount of energy stored outside of any transaction. Used to measure transactional flow on commit.
+     */
+    private long committedAmount = 0;
+
     public MachineEnergyStorageImpl(long capacity, long maxInput, long maxOutput) {
         this.capacity = capacity;
         this.maxInput = maxInput;
@@ -90,6 +98,7 @@ public long extract(long amount) {
 
         if (extracted > 0) {
             this.amount -= extracted;
+            this.recordChange();
             this.markModified();
             return extracted;
         }
@@ -102,6 +111,7 @@ public long insert(long amount) {
 
         if (inserted > 0) {
             this.amount += inserted;
+            this.recordChange();
             this.markModified();
             return inserted;
         }
@@ -112,6 +122,7 @@ public long insert(long amount) {
     public boolean extractExact(long amount) {
         if (this.canExtract(amount)) {
             this.amount -= amount;
+            this.recordChange();
             this.markModified();
             return true;
         }
@@ -122,6 +133,7 @@ public boolean extractExact(long amount) {
     public boolean insertExact(long amount) {
         if (this.canInsert(amount)) {
             this.amount += amount;
+            this.recordChange();
             this.markModified();
             return true;
         }
@@ -174,14 +186,20 @@ public boolean isEmpty() {
 
     @Override
     public void setEnergy(long amount, @Nullable TransactionContext context) {
-        if (context != null) this.updateSnapshots(context);
-        this.setEnergy(amount);
+        if (context != null) {
+            assert amount >= 0;
+            this.updateSnapshots(context);
+            this.amount = amount;
+        } else {
+            this.setEnergy(amount);
+        }
     }
 
     @Override
     public void setEnergy(long amount) {
         assert amount >= 0;
         this.amount = amount;
+        this.committedAmount = amount;
     }
 
     @Override
@@ -217,6 +235,7 @@ public boolean isValid() {
     @Override
     public void readTag(@NotNull LongTag tag) {
         this.amount = tag.getAsLong();
+        this.committedAmount = this.amount;
     }
 
     @Override
@@ -227,14 +246,56 @@ public void writePacket(@NotNull ByteBuf buf) {
     @Override
     public void readPacket(@NotNull ByteBuf buf) {
         this.amount = buf.readLong();
+        this.committedAmount = this.amount;
+    }
+
+    @Override
+    public void writeDeltaPacket(@NotNull ByteBuf buf, long[] previous) {
+        DeltaEncoding.writeLong(buf, this.amount, previous[0]);
+    }
+
+    @Override
+    public void readDeltaPacket(@NotNull ByteBuf buf) {
+        this.amount = DeltaEncoding.readLong(buf, this.amount);
+        this.committedAmount = this.amount;
     }
 
     @Override
     protected void onFinalCommit() {
         super.onFinalCommit();
+        this.recordChange();
         this.markModified();
     }
 
+    @Override
+    public double averageInsertion() {
+        Level level = this.parent != null ? this.parent.getLevel() : null;
+        return level != null ? this.meter.averageInsertion(level.getGameTime()) : 0;
+    }
+
+    @Override
+    public double averageExtraction() {
+        Level level = this.parent != null ? this.parent.getLevel() : null;
+        return level != null ? this.meter.averageExtraction(level.getGameTime()) : 0;
+    }
+
+    /**
+     * Records the change in stored energy since the last recorded change.
+     */
+    private void recordChange() {
+        long delta = this.amount - this.committedAmount;
+        this.committedAmount = this.amount;
+
+        Level level = this.parent != null ? this.parent.getLevel() : null;
+        if (level != null && !level.isClientSide() && delta != 0) {
+            if (delta > 0) {
+                this.meter.recordInsertion(level.getGameTime(), delta);
+            } else {
+                this.meter.recordExtraction(level.getGameTime(), -delta);
+            }
+        }
+    }
+
     @Override
     public long getModifications() {
         return this.amount;
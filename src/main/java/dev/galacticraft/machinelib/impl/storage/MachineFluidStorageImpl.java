@@ -35,13 +35,19 @@
 
 public class MachineFluidStorageImpl extends ResourceStorageImpl<Fluid, FluidResourceSlot> implements MachineFluidStorage {
     public static final MachineFluidStorageImpl EMPTY = new MachineFluidStorageImpl(new FluidResourceSlot[0]);
+    /**
+     * Exposed storages are only created once something queries them (e.g. an adjacent pipe).
+     * Machines that are never interacted with externally do not pay for the per-slot wrappers.
+     */
     private final ExposedStorage<Fluid, FluidVariant>[] exposedStorages = new ExposedStorage[3];
+    /**
+     * Bitmask (by {@link ResourceFlow#ordinal()}) of the exposed storages that have been computed.
+     * Required as unsupported flows are stored as {@code null}.
+     */
+    private byte exposedStoragesCreated = 0;
 
     public MachineFluidStorageImpl(@NotNull FluidResourceSlot @NotNull [] slots) {
         super(slots);
-        for (int i = 0; i < 3; i++) {
-            this.exposedStorages[i] = this.createExposedStorage(ResourceFlow.values()[i]);
-        }
     }
 
     protected @Nullable ExposedStorage<Fluid, FluidVariant> createExposedStorage(@NotNull ResourceFlow flow) {
@@ -56,6 +62,11 @@ public MachineFluidStorageImpl(@NotNull FluidResourceSlot @NotNull [] slots) {
 
     @Override
     public @Nullable ExposedStorage<Fluid, FluidVariant> getExposedStorage(@NotNull ResourceFlow flow) {
+        int bit = 1 << flow.ordinal();
+        if ((this.exposedStoragesCreated & bit) == 0) {
+            this.exposedStorages[flow.ordinal()] = this.createExposedStorage(flow);
+            this.exposedStoragesCreated |= (byte) bit;
+        }
         return this.exposedStorages[flow.ordinal()];
     }
 }
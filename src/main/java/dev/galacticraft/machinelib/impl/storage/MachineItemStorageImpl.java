@@ -41,14 +41,19 @@
 
 public class MachineItemStorageImpl extends ResourceStorageImpl<Item, ItemResourceSlot> implements MachineItemStorage {
     public static final MachineItemStorageImpl EMPTY = new MachineItemStorageImpl(new ItemResourceSlot[0]);
+    /**
+     * Exposed storages are only created once something queries them (e.g. an adjacent pipe).
+     * Machines that are never interacted with externally do not pay for the per-slot wrappers.
+     */
     private final ExposedStorage<Item, ItemVariant>[] exposedStorages = new ExposedStorage[3];
+    /**
+     * Bitmask (by {@link ResourceFlow#ordinal()}) of the exposed storages that have been computed.
+     * Required as unsupported flows are stored as {@code null}.
+     */
+    private byte exposedStoragesCreated = 0;
 
     public MachineItemStorageImpl(@NotNull ItemResourceSlot @NotNull [] slots) {
         super(slots);
-
-        for (int i = 0; i < 3; i++) {
-            this.exposedStorages[i] = this.createExposedStorage(ResourceFlow.values()[i]);
-        }
     }
 
     @Override
@@ -116,6 +121,11 @@ public void clearContent() {
 
     @Override
     public @Nullable ExposedStorage<Item, ItemVariant> getExposedStorage(@NotNull ResourceFlow flow) {
+        int bit = 1 << flow.ordinal();
+        if ((this.exposedStoragesCreated & bit) == 0) {
+            this.exposedStorages[flow.ordinal()] = this.createExposedStorage(flow);
+            this.exposedStoragesCreated |= (byte) bit;
+        }
         return this.exposedStorages[flow.ordinal()];
     }
 
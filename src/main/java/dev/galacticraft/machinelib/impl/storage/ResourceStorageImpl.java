@@ -24,17 +24,26 @@
 
 import dev.galacticraft.machinelib.api.storage.ResourceStorage;
 import dev.galacticraft.machinelib.api.storage.slot.ResourceSlot;
+import dev.galacticraft.machinelib.impl.menu.sync.ChangeMask;
+import dev.galacticraft.machinelib.impl.storage.slot.ResourceSlotImpl;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
 import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.BitSet;
+
 public abstract class ResourceStorageImpl<Resource, Slot extends ResourceSlot<Resource>> extends BaseSlottedStorage<Resource, Slot> implements ResourceStorage<Resource, Slot>, TransactionContext.CloseCallback {
-    private final LongList transactions = new LongArrayList();
+    /**
+     * Modification counts at the start of each open transaction (indexed by nesting depth).
+     * Allocated on the first transactional modification.
+     */
+    private @Nullable LongList transactions = null;
     private long modifications = 1;
     private @Nullable BlockEntity parent;
 
@@ -69,6 +78,7 @@ public void markModified() {
     @Override
     public void markModified(@Nullable TransactionContext transaction) {
         if (transaction != null) {
+            if (this.transactions == null) this.transactions = new LongArrayList();
             while (this.transactions.size() <= transaction.nestingDepth()) {
                 this.transactions.add(-1L);
             }
@@ -86,6 +96,7 @@ public void markModified(@Nullable TransactionContext transaction) {
 
     @Override
     public void onClose(TransactionContext transaction, TransactionContext.Result result) {
+        assert this.transactions != null;
         if (result.wasAborted()) {
             this.modifications = this.transactions.removeLong(transaction.nestingDepth());
         } else if (transaction.nestingDepth() > 0) {
@@ -135,54 +146,106 @@ public void readPacket(@NotNull RegistryFriendlyByteBuf buf) {
 
     @Override
     public void copyInto(long @NotNull [] other) {
-        assert this.slots.length == other.length;
+        assert this.slots.length * 2 == other.length;
 
         for (int i = 0; i < this.slots.length; i++) {
             other[i] = this.slots[i].getModifications();
+            other[this.slots.length + i] = this.slots[i] instanceof ResourceSlotImpl<?> slot ? slot.getVariantModifications() : -1;
         }
     }
 
+    /**
+     * Writes the slots that changed since the previous state.
+     * The header is the number of changed slots, shifted left by one, with the low bit set when masks follow.
+     * <p>
+     * Without masks, each slot is prefixed with its index, shifted left by one. The low bit is set when the whole slot follows,
+     * and clear when only the amount changed and follows as a varlong.
+     * With masks, a mask of the changed slots and a mask of the slots written whole precede the slots, in index order.
+     *
+     * @param buf the buffer to write into
+     * @param previous the modification counts of each slot, followed by the variant modification counts
+     */
     @Override
     public void writeDeltaPacket(@NotNull RegistryFriendlyByteBuf buf, long @NotNull [] previous) {
-        int n = 0;
+        BitSet changed = new BitSet(this.slots.length);
+        BitSet whole = new BitSet(this.slots.length);
+        int indexSize = 0;
         for (int i = 0; i < this.slots.length; i++) {
-            if (this.slots[i].getModifications() != previous[i]) {
-                n++;
+            Slot slot = this.slots[i];
+            if (slot.getModifications() != previous[i]) {
+                changed.set(i);
+                if (!(slot instanceof ResourceSlotImpl<?> impl) || impl.getVariantModifications() != previous[this.slots.length + i]) {
+                    whole.set(i);
+                }
+                indexSize += VarInt.getByteSize(i << 1 | 1);
             }
         }
-        buf.writeVarInt(n);
+        int n = changed.cardinality();
 
         // If all slots have changed, write a full packet instead (removes index overhead)
         if (n == this.size()) {
+            buf.writeVarInt(n << 1);
             this.writePacket(buf);
             return;
         }
 
-        for (int i = 0; i < this.slots.length; i++) {
-            if (this.slots[i].getModifications() != previous[i]) {
-                buf.writeVarInt(i);
-                this.slots[i].writePacket(buf);
+        boolean mask = ChangeMask.prefersMask(this.slots.length, indexSize, 2);
+        buf.writeVarInt(n << 1 | (mask ? 1 : 0));
+        if (mask) {
+            ChangeMask.writeMask(buf, changed, this.slots.length);
+            ChangeMask.writeMask(buf, whole, this.slots.length);
+        }
+
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+            Slot slot = this.slots[i];
+            boolean full = whole.get(i);
+            if (!mask) buf.writeVarInt(i << 1 | (full ? 1 : 0));
+            if (full) {
+                slot.writePacket(buf);
+            } else {
+                buf.writeVarLong(slot.getAmount());
             }
         }
     }
 
     @Override
     public void readDeltaPacket(@NotNull RegistryFriendlyByteBuf buf) {
-        int n = buf.readVarInt();
+        int header = buf.readVarInt();
+        int n = header >>> 1;
 
         if (n == this.size()) {
             this.readPacket(buf);
             return;
         }
 
-        for (int i = 0; i < n; i++) {
-            this.slots[buf.readVarInt()].readPacket(buf);
+        if ((header & 1) != 0) {
+            BitSet changed = ChangeMask.readMask(buf, this.slots.length);
+            BitSet whole = ChangeMask.readMask(buf, this.slots.length);
+            for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+                this.readSlot(buf, this.slots[i], whole.get(i));
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                int key = buf.readVarInt();
+                this.readSlot(buf, this.slots[key >>> 1], (key & 1) != 0);
+            }
+        }
+    }
+
+    private void readSlot(@NotNull RegistryFriendlyByteBuf buf, @NotNull Slot slot, boolean whole) {
+        if (whole) {
+            slot.readPacket(buf);
+        } else {
+            long amount = buf.readVarLong();
+            // the slot was emptied on this side (e.g. by a mispredicted click), so there is nothing to update
+            if (slot.getResource() == null) return;
+            slot.set(slot.getResource(), slot.getComponents(), amount);
         }
     }
 
     @Override
     public long[] createEquivalent() {
-        return new long[this.slots.length];
+        return new long[this.slots.length * 2];
     }
 
     @Override
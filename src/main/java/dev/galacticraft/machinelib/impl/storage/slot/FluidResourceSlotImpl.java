@@ -28,10 +28,13 @@
 import dev.galacticraft.machinelib.api.transfer.TransferType;
 import net.minecraft.core.component.DataComponentPatch;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.material.Fluid;
 import net.minecraft.world.level.material.Fluids;
@@ -39,6 +42,11 @@
 import org.jetbrains.annotations.Nullable;
 
 public class FluidResourceSlotImpl extends ResourceSlotImpl<Fluid> implements FluidResourceSlot {
+    /**
+     * Writes fluids as their network id.
+     */
+    private static final StreamCodec<RegistryFriendlyByteBuf, Fluid> FLUID_CODEC = ByteBufCodecs.registry(Registries.FLUID);
+
     private final @Nullable TankDisplay display;
 
     public FluidResourceSlotImpl(@NotNull TransferType transferType, @Nullable TankDisplay display, long capacity, ResourceFilter<Fluid> filter) {
@@ -96,7 +104,7 @@ public void writePacket(@NotNull RegistryFriendlyByteBuf buf) {
         assert this.isSane();
         if (this.amount > 0) {
             buf.writeLong(this.amount);
-            buf.writeUtf(BuiltInRegistries.FLUID.getKey(this.resource).toString());
+            FLUID_CODEC.encode(buf, this.resource);
             DataComponentPatch.STREAM_CODEC.encode(buf, this.components);
         } else {
             buf.writeLong(0);
@@ -109,7 +117,7 @@ public void readPacket(@NotNull RegistryFriendlyByteBuf buf) {
         if (amount == 0) {
             this.setEmpty();
         } else {
-            Fluid resource = BuiltInRegistries.FLUID.get(ResourceLocation.parse(buf.readUtf()));
+            Fluid resource = FLUID_CODEC.decode(buf);
             DataComponentPatch components = DataComponentPatch.STREAM_CODEC.decode(buf);
             this.set(resource, components, amount);
         }
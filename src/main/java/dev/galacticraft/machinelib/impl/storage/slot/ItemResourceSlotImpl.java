@@ -27,7 +27,6 @@
 import dev.galacticraft.machinelib.api.storage.slot.display.ItemSlotDisplay;
 import dev.galacticraft.machinelib.api.transfer.TransferType;
 import dev.galacticraft.machinelib.api.util.ItemStackUtil;
-import dev.galacticraft.machinelib.impl.util.Utils;
 import net.fabricmc.fabric.api.lookup.v1.item.ItemApiLookup;
 import net.fabricmc.fabric.api.transfer.v1.context.ContainerItemContext;
 import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
@@ -37,8 +36,11 @@
 import net.minecraft.core.component.DataComponentPatch;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.*;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -50,13 +52,29 @@
 
 public class ItemResourceSlotImpl extends ResourceSlotImpl<Item> implements ItemResourceSlot {
     private static final String RECIPES_KEY = "Recipes";
+    /**
+     * The number of item API lookups that can be cached at once.
+     */
+    private static final int LOOKUP_CACHE_SIZE = 4;
+    /**
+     * Writes items as their network id.
+     */
+    private static final StreamCodec<RegistryFriendlyByteBuf, Item> ITEM_CODEC = ByteBufCodecs.registry(Registries.ITEM);
     private final @Nullable ItemSlotDisplay display;
-    private long cachedExpiry = -1;
 
     private @Nullable Set<ResourceLocation> recipes = null;
     private @Nullable SingleSlotStorage<ItemVariant> cachedStorage = null;
-    private @Nullable ItemApiLookup<?, ContainerItemContext> cachedLookup = null;
-    private @Nullable Object cachedApi = null;
+    private final ItemApiLookup<?, ContainerItemContext>[] cachedLookups = new ItemApiLookup[LOOKUP_CACHE_SIZE];
+    private final Object[] cachedApis = new Object[LOOKUP_CACHE_SIZE];
+    private int cachedLookupCount = 0;
+    /**
+     * The item the cached lookups were resolved for.
+     * Keyed on the resource rather than the modification count, which is rewound when a transaction is aborted.
+     */
+    private @Nullable Item cachedLookupItem = null;
+    private @Nullable DataComponentPatch cachedLookupComponents = null;
+    private @Nullable ItemVariant cachedVariant = null;
+    private @Nullable DataComponentPatch cachedVariantComponents = null;
 
     public ItemResourceSlotImpl(@NotNull TransferType transferType, @Nullable ItemSlotDisplay display, @NotNull ResourceFilter<Item> externalFilter, int capacity) {
         super(transferType, externalFilter, capacity);
@@ -195,7 +213,7 @@ public void readTag(@NotNull CompoundTag tag) {
     public void writePacket(@NotNull RegistryFriendlyByteBuf buf) {
         if (this.amount > 0) {
             buf.writeInt((int) this.amount);
-            buf.writeUtf(Utils.getShortId(BuiltInRegistries.ITEM.getKey(this.resource)));
+            ITEM_CODEC.encode(buf, this.resource);
             DataComponentPatch.STREAM_CODEC.encode(buf, this.components);
         } else {
             buf.writeInt(0);
@@ -208,7 +226,7 @@ public void readPacket(@NotNull RegistryFriendlyByteBuf buf) {
         if (amount == 0) {
             this.setEmpty();
         } else {
-            Item resource = BuiltInRegistries.ITEM.get(ResourceLocation.parse(buf.readUtf()));
+            Item resource = ITEM_CODEC.decode(buf);
             DataComponentPatch tag = DataComponentPatch.STREAM_CODEC.decode(buf);
             this.set(resource, tag, amount);
         }
@@ -216,12 +234,31 @@ public void readPacket(@NotNull RegistryFriendlyByteBuf buf) {
 
     @Override
     public <A> @Nullable A find(ItemApiLookup<A, ContainerItemContext> lookup) {
-        if (this.cachedExpiry != this.getModifications() || this.cachedLookup != lookup) {
-            this.cachedExpiry = this.getModifications();
-            this.cachedLookup = lookup;
-            this.cachedApi = ItemResourceSlot.super.find(lookup);
+        // the context reads the slot's amount when used, so only the variant needs to match
+        if (this.cachedLookupCount == 0 || this.cachedLookupItem != this.resource || this.cachedLookupComponents != this.components) {
+            this.cachedLookupItem = this.resource;
+            this.cachedLookupComponents = this.components;
+            Arrays.fill(this.cachedLookups, 0, this.cachedLookupCount, null);
+            Arrays.fill(this.cachedApis, 0, this.cachedLookupCount, null);
+            this.cachedLookupCount = 0;
+        } else {
+            for (int i = 0; i < this.cachedLookupCount; i++) {
+                if (this.cachedLookups[i] == lookup) {
+                    return (A) this.cachedApis[i];
+                }
+            }
+        }
+
+        A api = ItemResourceSlot.super.find(lookup);
+        if (this.cachedLookupCount == LOOKUP_CACHE_SIZE) {
+            // evict the oldest entry - more than a handful of lookups per slot is unusual
+            System.arraycopy(this.cachedLookups, 1, this.cachedLookups, 0, LOOKUP_CACHE_SIZE - 1);
+            System.arraycopy(this.cachedApis, 1, this.cachedApis, 0, LOOKUP_CACHE_SIZE - 1);
+            this.cachedLookupCount--;
         }
-        return (A) this.cachedApi;
+        this.cachedLookups[this.cachedLookupCount] = lookup;
+        this.cachedApis[this.cachedLookupCount++] = api;
+        return api;
     }
 
     @Override
@@ -234,7 +271,15 @@ public SingleSlotStorage<ItemVariant> getMainSlot() {
 
     @Override
     public ItemVariant getItemVariant() {
-        return ItemResourceSlotImpl.this.isEmpty() ? ItemVariant.blank() : ItemVariant.of(Objects.requireNonNull(ItemResourceSlotImpl.this.resource), ItemResourceSlotImpl.this.components);
+        if (this.isEmpty()) return ItemVariant.blank();
+
+        // The cache is keyed on the contents rather than the modification count: a rolled-back transaction
+        // restores the previous count, so the count alone could match a variant cached mid-transaction.
+        if (this.cachedVariant == null || this.cachedVariant.getItem() != this.resource || this.cachedVariantComponents != this.components) {
+            this.cachedVariant = ItemVariant.of(Objects.requireNonNull(this.resource), this.components);
+            this.cachedVariantComponents = this.components;
+        }
+        return this.cachedVariant;
     }
 
     @Override
@@ -321,7 +366,7 @@ public boolean isResourceBlank() {
 
         @Override
         public ItemVariant getResource() {
-            return ItemResourceSlotImpl.this.isEmpty() ? ItemVariant.blank() : ItemVariant.of(Objects.requireNonNull(ItemResourceSlotImpl.this.resource), ItemResourceSlotImpl.this.components);
+            return ItemResourceSlotImpl.this.getItemVariant();
         }
 
         @Override
@@ -53,6 +53,10 @@
     protected long amount = 0;
 
     private long modifications = 1;
+    /**
+     * Incremented whenever the resource or components of this slot change, but not when only the amount does.
+     */
+    private long variantModifications = 1;
 
     protected ResourceSlotImpl(TransferType transferType, ResourceFilter<Resource> externalFilter, long capacity) {
         this.transferType = transferType;
@@ -135,8 +139,7 @@ public long tryInsert(@NotNull Resource resource, @NotNull DataComponentPatch co
     public long insert(@NotNull Resource resource, @NotNull DataComponentPatch components, long amount) {
         long inserted = this.tryInsert(resource, components, amount);
         if (inserted > 0) {
-            this.resource = resource;
-            this.components = components;
+            this.setVariant(resource, components);
             this.amount += inserted;
             this.markModified();
             return inserted;
@@ -235,8 +238,7 @@ public long insert(@NotNull Resource resource, @NotNull DataComponentPatch compo
 
         if (inserted > 0) {
             this.updateSnapshots(context);
-            this.resource = resource;
-            this.components = components;
+            this.setVariant(resource, components);
             this.amount += inserted;
             return inserted;
         }
@@ -263,6 +265,14 @@ public long getModifications() {
         return this.modifications;
     }
 
+    /**
+     * {@return a counter that changes whenever the resource or components of this slot change}
+     * Changes to the amount alone leave it untouched.
+     */
+    public long getVariantModifications() {
+        return this.variantModifications;
+    }
+
     @Override
     public void markModified() {
         this.modifications++;
@@ -277,7 +287,7 @@ public void markModified(@Nullable TransactionContext context) {
 
     @Override
     protected Snapshot<Resource> createSnapshot() {
-        return new Snapshot<>(this.resource, this.amount, this.components, this.modifications);
+        return new Snapshot<>(this.resource, this.amount, this.components, this.modifications, this.variantModifications);
     }
 
     @Override
@@ -286,6 +296,7 @@ protected void readSnapshot(Snapshot<Resource> snapshot) {
         this.amount = snapshot.amount;
         this.components = snapshot.components;
         this.modifications = snapshot.modifications;
+        this.variantModifications = snapshot.variantModifications;
         assert this.isSane();
     }
 
@@ -299,27 +310,32 @@ public void updateSnapshots(TransactionContext context) {
     }
 
     protected void setEmpty() {
-        this.resource = null;
-        this.components = DataComponentPatch.EMPTY;
+        this.setVariant(null, DataComponentPatch.EMPTY);
         this.amount = 0;
     }
 
     @Override
     public void set(@Nullable Resource resource, @NotNull DataComponentPatch components, long amount) {
-        this.resource = resource;
-        this.components = components;
+        this.setVariant(resource, components);
         this.amount = amount;
         assert this.isSane();
     }
 
     @Override
     public void set(@Nullable Resource resource, long amount) {
-        this.resource = resource;
-        this.components = DataComponentPatch.EMPTY;
+        this.setVariant(resource, DataComponentPatch.EMPTY);
         this.amount = amount;
         assert this.isSane();
     }
 
+    private void setVariant(@Nullable Resource resource, @NotNull DataComponentPatch components) {
+        if (this.resource != resource || this.components != components) {
+            this.resource = resource;
+            this.components = components;
+            this.variantModifications++;
+        }
+    }
+
     @Override
     public void _setParent(ResourceStorage<Resource, ?> parent) {
         assert this.parent == null;
@@ -354,7 +370,8 @@ private long doExtraction(long extracted) {
     }
 
     protected record Snapshot<Resource>(@Nullable Resource resource, long amount,
-                                        @NotNull DataComponentPatch components, long modifications) {
+                                        @NotNull DataComponentPatch components, long modifications,
+                                        long variantModifications) {
         @SuppressWarnings("ProtectedMemberInFinalClass") // can't be private
         protected Snapshot {
             assert (resource == null && components.isEmpty() && amount == 0) || (resource != null && amount > 0);
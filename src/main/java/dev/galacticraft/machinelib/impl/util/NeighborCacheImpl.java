@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.util;
+
+import dev.galacticraft.machinelib.api.block.entity.ConfiguredBlockEntity;
+import dev.galacticraft.machinelib.api.util.AdjacentBlockApiCache;
+import dev.galacticraft.machinelib.api.util.NeighborCache;
+import dev.galacticraft.machinelib.impl.Constant;
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiLookup;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+@ApiStatus.Internal
+public final class NeighborCacheImpl implements NeighborCache {
+    private final ConfiguredBlockEntity machine;
+    private final BlockPos[] positions = new BlockPos[6];
+    private final @Nullable BlockEntity[] entities = new BlockEntity[6];
+
+    public NeighborCacheImpl(ConfiguredBlockEntity machine) {
+        this.machine = machine;
+        for (Direction direction : Constant.Cache.DIRECTIONS) {
+            this.positions[direction.ordinal()] = machine.getBlockPos().relative(direction);
+        }
+    }
+
+    @Override
+    public <A> @Nullable A find(@NotNull BlockApiLookup<A, Direction> lookup, @NotNull Direction direction) {
+        int i = direction.ordinal();
+        BlockState state = this.resolve(i);
+        if (state == null) return null;
+
+        Level level = this.machine.getLevel();
+        assert level != null;
+        return lookup.find(level, this.positions[i], state, this.entities[i], direction.getOpposite());
+    }
+
+    @Override
+    public @Nullable BlockState getBlockState(@NotNull Direction direction) {
+        return this.resolve(direction.ordinal());
+    }
+
+    @Override
+    public @Nullable BlockEntity getBlockEntity(@NotNull Direction direction) {
+        int i = direction.ordinal();
+        return this.resolve(i) != null ? this.entities[i] : null;
+    }
+
+    @Override
+    public <A> @NotNull AdjacentBlockApiCache<A> forLookup(@NotNull BlockApiLookup<A, Direction> lookup) {
+        return new LookupView<>(this, lookup);
+    }
+
+    /**
+     * Reads the block in the given direction, refreshing the cached block entity if necessary.
+     * The block state is always re-read, as it can change without a neighbor update.
+     *
+     * @param i the index of the direction
+     * @return the block state, or {@code null} if it is not loaded
+     */
+    private @Nullable BlockState resolve(int i) {
+        Level level = this.machine.getLevel();
+        // unloaded neighbors are not cached, as loading a chunk does not cause a neighbor update
+        if (level == null || !level.isLoaded(this.positions[i])) {
+            this.entities[i] = null;
+            return null;
+        }
+
+        BlockState state = level.getBlockState(this.positions[i]);
+        if (state.hasBlockEntity()) {
+            BlockEntity entity = this.entities[i];
+            if (entity == null || entity.isRemoved()) {
+                this.entities[i] = level.getBlockEntity(this.positions[i]);
+            }
+        } else {
+            this.entities[i] = null;
+        }
+        return state;
+    }
+
+    private record LookupView<A>(NeighborCacheImpl cache, BlockApiLookup<A, Direction> lookup) implements AdjacentBlockApiCache<A> {
+        @Override
+        public @Nullable A find(@NotNull Direction direction, @Nullable BlockState state) {
+            return this.cache.find(this.lookup, direction);
+        }
+
+        @Override
+        public @Nullable BlockEntity getBlockEntity(@NotNull Direction direction) {
+            return this.cache.getBlockEntity(direction);
+        }
+    }
+}
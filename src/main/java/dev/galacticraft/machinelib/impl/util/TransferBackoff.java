@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.util;
+
+import dev.galacticraft.machinelib.api.misc.Modifiable;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Remembers failed automatic transfers so that they are not retried until something changes.
+ * <p>
+ * A failed transfer is retried once the version of either storage changes.
+ * {@link Storage Storages} report their {@link Storage#getVersion() version} and {@link Modifiable modifiable} storages
+ * their modification count. Other storages, and storages that report a new version on every call,
+ * are not tracked, so transfers involving them are also retried after an exponentially increasing delay.
+ */
+@ApiStatus.Internal
+public final class TransferBackoff {
+    /**
+     * The longest time (in ticks) to wait before retrying a transfer involving an unversioned storage.
+     */
+    private static final int MAX_DELAY = 64;
+
+    private final @Nullable Object[] sources;
+    private final @Nullable Object[] targets;
+    private final long[] sourceVersions;
+    private final long[] targetVersions;
+    private final boolean[] sourceVersioned;
+    private final boolean[] targetVersioned;
+    private final int[] failures;
+    private final long[] retryAt;
+
+    public TransferBackoff(int size) {
+        this.sources = new Object[size];
+        this.targets = new Object[size];
+        this.sourceVersions = new long[size];
+        this.targetVersions = new long[size];
+        this.sourceVersioned = new boolean[size];
+        this.targetVersioned = new boolean[size];
+        this.failures = new int[size];
+        this.retryAt = new long[size];
+    }
+
+    /**
+     * {@return whether the transfer on the given index failed before and nothing has changed since}
+     *
+     * @param index the index of the transfer (usually a direction)
+     * @param source the storage resources are moved out of
+     * @param target the storage resources are moved into
+     * @param time the current game time
+     */
+    public boolean shouldSkip(int index, @NotNull Object source, @NotNull Object target, long time) {
+        if (this.sources[index] != source || this.targets[index] != target) {
+            this.clear(index);
+            return false;
+        }
+
+        boolean sourceVersioned = this.sourceVersioned[index];
+        boolean targetVersioned = this.targetVersioned[index];
+        if (sourceVersioned && version(source) != this.sourceVersions[index]) return false;
+        if (targetVersioned && version(target) != this.targetVersions[index]) return false;
+        return (sourceVersioned && targetVersioned) || time < this.retryAt[index];
+    }
+
+    /**
+     * Records that the transfer on the given index moved nothing.
+     *
+     * @param index the index of the transfer (usually a direction)
+     * @param source the storage resources are moved out of
+     * @param target the storage resources are moved into
+     * @param time the current game time
+     */
+    public void recordFailure(int index, @NotNull Object source, @NotNull Object target, long time) {
+        if (this.sources[index] != source || this.targets[index] != target) {
+            this.sources[index] = source;
+            this.targets[index] = target;
+            this.failures[index] = 0;
+        }
+
+        // an unchanged storage must report the same version twice
+        long version = version(source);
+        this.sourceVersions[index] = version;
+        this.sourceVersioned[index] = isTracked(source) && version(source) == version;
+
+        version = version(target);
+        this.targetVersions[index] = version;
+        this.targetVersioned[index] = isTracked(target) && version(target) == version;
+
+        int failures = this.failures[index] = Math.min(this.failures[index] + 1, Integer.numberOfTrailingZeros(MAX_DELAY));
+        this.retryAt[index] = time + (1L << failures);
+    }
+
+    /**
+     * Forgets any failure recorded for the given index.
+     *
+     * @param index the index of the transfer (usually a direction)
+     */
+    public void clear(int index) {
+        this.sources[index] = null;
+        this.targets[index] = null;
+        this.failures[index] = 0;
+    }
+
+    private static boolean isTracked(Object storage) {
+        return storage instanceof Storage<?> || storage instanceof Modifiable;
+    }
+
+    private static long version(Object storage) {
+        if (storage instanceof Storage<?> s) return s.getVersion();
+        if (storage instanceof Modifiable m) return m.getModifications();
+        return 0;
+    }
+}
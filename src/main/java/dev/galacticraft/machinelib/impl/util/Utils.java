@@ -23,7 +23,6 @@
 package dev.galacticraft.machinelib.impl.util;
 
 import dev.galacticraft.machinelib.impl.MachineLib;
-import io.netty.buffer.ByteBufAllocator;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.resources.ResourceLocation;
@@ -41,19 +40,24 @@
 
 public final class Utils {
     /**
-     * A codec that copies the contents of a buffer.
+     * A codec that passes the contents of a buffer through without copying them into a new buffer.
+     * <p>
+     * Encoding writes the readable bytes of the buffer and then releases it.
+     * Decoding returns a retained slice of the remaining bytes, which must be released once it has been read.
      */
-    public static final StreamCodec<RegistryFriendlyByteBuf, RegistryFriendlyByteBuf> BUF_IDENTITY_CODEC = new StreamCodec<>() {
+    public static final StreamCodec<RegistryFriendlyByteBuf, RegistryFriendlyByteBuf> RETAINED_BUF_CODEC = new StreamCodec<>() {
         @Override
-        public void encode(RegistryFriendlyByteBuf src, RegistryFriendlyByteBuf dst) {
-            src.writeBytes(dst);
+        public void encode(RegistryFriendlyByteBuf dst, RegistryFriendlyByteBuf buf) {
+            try {
+                dst.writeBytes(buf, buf.readerIndex(), buf.readableBytes());
+            } finally {
+                buf.release();
+            }
         }
 
         @Override
         public @NotNull RegistryFriendlyByteBuf decode(RegistryFriendlyByteBuf src) {
-            RegistryFriendlyByteBuf buf = new RegistryFriendlyByteBuf(ByteBufAllocator.DEFAULT.buffer(src.capacity()), src.registryAccess());
-            buf.writeBytes(src);
-            return buf;
+            return new RegistryFriendlyByteBuf(src.readRetainedSlice(src.readableBytes()), src.registryAccess());
         }
     };
 
@@ -75,17 +79,6 @@ public static boolean itemsEqual(@Nullable Item a, @NotNull Item b) {
         return a == b || (a == null && b == Items.AIR);
     }
 
-    /**
-     * {@return the short string representation of the given id}
-     * Should only be used to serialize packets and other short-lived data.
-     * If the namespace matches "minecraft", only the path is returned.
-     *
-     * @param id the id to shorten
-     */
-    public static String getShortId(ResourceLocation id) {
-        return id.getNamespace().equals("minecraft") ? id.getPath() : id.toString();
-    }
-
     public static void breakpointMe(String s) {
         MachineLib.LOGGER.error(s);
     }
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.api.util;
+
+import dev.galacticraft.machinelib.test.MinecraftTest;
+import net.minecraft.core.Direction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BlockFaceTest implements MinecraftTest {
+    @Test
+    void fromNorth() {
+        Assertions.assertEquals(BlockFace.FRONT, BlockFace.from(Direction.NORTH, Direction.NORTH));
+        Assertions.assertEquals(BlockFace.RIGHT, BlockFace.from(Direction.NORTH, Direction.EAST));
+        Assertions.assertEquals(BlockFace.BACK, BlockFace.from(Direction.NORTH, Direction.SOUTH));
+        Assertions.assertEquals(BlockFace.LEFT, BlockFace.from(Direction.NORTH, Direction.WEST));
+        Assertions.assertEquals(BlockFace.TOP, BlockFace.from(Direction.NORTH, Direction.UP));
+        Assertions.assertEquals(BlockFace.BOTTOM, BlockFace.from(Direction.NORTH, Direction.DOWN));
+    }
+
+    @Test
+    void fromEast() {
+        Assertions.assertEquals(BlockFace.FRONT, BlockFace.from(Direction.EAST, Direction.EAST));
+        Assertions.assertEquals(BlockFace.RIGHT, BlockFace.from(Direction.EAST, Direction.SOUTH));
+        Assertions.assertEquals(BlockFace.BACK, BlockFace.from(Direction.EAST, Direction.WEST));
+        Assertions.assertEquals(BlockFace.LEFT, BlockFace.from(Direction.EAST, Direction.NORTH));
+    }
+
+    @Test
+    void fromNull() {
+        Assertions.assertNull(BlockFace.from(Direction.SOUTH, null));
+    }
+
+    @Test
+    void roundTrip() {
+        for (Direction facing : Direction.Plane.HORIZONTAL) {
+            for (Direction direction : Direction.values()) {
+                Assertions.assertEquals(direction, BlockFace.from(facing, direction).toDirection(facing));
+            }
+        }
+    }
+
+    @Test
+    void verticalFacing() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> BlockFace.FRONT.toDirection(Direction.UP));
+    }
+}
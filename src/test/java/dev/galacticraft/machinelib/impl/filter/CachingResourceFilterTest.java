@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.filter;
+
+import dev.galacticraft.machinelib.test.MinecraftTest;
+import dev.galacticraft.machinelib.test.util.Utils;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingResourceFilterTest implements MinecraftTest {
+    private int evaluations;
+    private CachingResourceFilter<Item> filter;
+
+    @BeforeEach
+    void setup() {
+        this.evaluations = 0;
+        this.filter = new CachingResourceFilter<>((item, components) -> {
+            this.evaluations++;
+            return item == Items.STICK;
+        });
+    }
+
+    @Test
+    void cachesResult() {
+        assertTrue(this.filter.test(Items.STICK, DataComponentPatch.EMPTY));
+        assertTrue(this.filter.test(Items.STICK, DataComponentPatch.EMPTY));
+        assertFalse(this.filter.test(Items.GLASS, DataComponentPatch.EMPTY));
+        assertEquals(2, this.evaluations);
+    }
+
+    @Test
+    void keyedByComponents() {
+        DataComponentPatch components = Utils.generateComponents();
+        this.filter.test(Items.STICK, DataComponentPatch.EMPTY);
+        this.filter.test(Items.STICK, components);
+        this.filter.test(Items.STICK, components);
+        assertEquals(2, this.evaluations);
+    }
+
+    @Test
+    void nullIsNotCached() {
+        assertFalse(this.filter.test(null, DataComponentPatch.EMPTY));
+        assertFalse(this.filter.test(null, DataComponentPatch.EMPTY));
+        assertEquals(2, this.evaluations);
+    }
+
+    @Test
+    void invalidated() {
+        this.filter.test(Items.STICK, DataComponentPatch.EMPTY);
+        FilterGeneration.invalidate();
+        this.filter.test(Items.STICK, DataComponentPatch.EMPTY);
+        assertEquals(2, this.evaluations);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.filter;
+
+import dev.galacticraft.machinelib.api.filter.RegistryResourceFilter;
+import dev.galacticraft.machinelib.api.filter.ResourceFilter;
+import dev.galacticraft.machinelib.api.filter.ResourceFilters;
+import dev.galacticraft.machinelib.test.MinecraftTest;
+import dev.galacticraft.machinelib.test.util.Utils;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledResourceFilterTest implements MinecraftTest {
+    @Test
+    void single() {
+        ResourceFilter<Item> filter = ResourceFilters.ofResource(Items.STICK);
+        assertInstanceOf(RegistryResourceFilter.class, filter);
+        assertTrue(filter.test(Items.STICK, Utils.generateComponents()));
+        assertFalse(filter.test(Items.GLASS, DataComponentPatch.EMPTY));
+        assertFalse(filter.test(null, DataComponentPatch.EMPTY));
+    }
+
+    @Test
+    void or() {
+        ResourceFilter<Item> filter = ResourceFilters.or(ResourceFilters.ofResource(Items.STICK), ResourceFilters.ofResource(Items.GLASS));
+        RegistryResourceFilter<Item> compiled = compiled(filter);
+        assertTrue(filter.test(Items.STICK, DataComponentPatch.EMPTY));
+        assertTrue(filter.test(Items.GLASS, DataComponentPatch.EMPTY));
+        assertFalse(filter.test(Items.DIRT, DataComponentPatch.EMPTY));
+
+        List<Item> matching = new ArrayList<>();
+        compiled.forEachMatching(matching::add);
+        assertEquals(2, matching.size());
+        assertTrue(matching.containsAll(List.of(Items.STICK, Items.GLASS)));
+    }
+
+    @Test
+    void and() {
+        ResourceFilter<Item> filter = ResourceFilters.and(ResourceFilters.ofResource(Items.STICK), ResourceFilters.not(ResourceFilters.ofResource(Items.GLASS)));
+        assertInstanceOf(RegistryResourceFilter.class, filter);
+        assertTrue(filter.test(Items.STICK, DataComponentPatch.EMPTY));
+        assertFalse(filter.test(Items.GLASS, DataComponentPatch.EMPTY));
+    }
+
+    @Test
+    void not() {
+        ResourceFilter<Item> filter = ResourceFilters.not(ResourceFilters.ofResource(Items.STICK));
+        RegistryResourceFilter<Item> compiled = compiled(filter);
+        assertFalse(filter.test(Items.STICK, DataComponentPatch.EMPTY));
+        assertTrue(filter.test(Items.GLASS, DataComponentPatch.EMPTY));
+        // matches the behaviour of the uncompiled filter for empty resources
+        assertTrue(filter.test(null, DataComponentPatch.EMPTY));
+        assertEquals(BuiltInRegistries.ITEM.size() - 1, compiled.matchingIds().cardinality());
+    }
+
+    @Test
+    void mixedIsNotCompiled() {
+        ResourceFilter<Item> filter = ResourceFilters.and(ResourceFilters.ofResource(Items.STICK), ResourceFilters.ofComponents(DataComponentPatch.EMPTY));
+        assertFalse(filter instanceof RegistryResourceFilter);
+        assertTrue(filter.test(Items.STICK, DataComponentPatch.EMPTY));
+        assertFalse(filter.test(Items.STICK, Utils.generateComponents()));
+    }
+
+    private static <Resource> RegistryResourceFilter<Resource> compiled(ResourceFilter<Resource> filter) {
+        assertInstanceOf(RegistryResourceFilter.class, filter);
+        return (RegistryResourceFilter<Resource>) filter;
+    }
+}
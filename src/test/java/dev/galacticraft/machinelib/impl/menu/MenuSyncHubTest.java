@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.menu;
+
+import dev.galacticraft.machinelib.api.menu.SyncRate;
+import dev.galacticraft.machinelib.api.storage.MachineEnergyStorage;
+import dev.galacticraft.machinelib.client.impl.menu.MenuDataClient;
+import dev.galacticraft.machinelib.impl.storage.MachineEnergyStorageImpl;
+import dev.galacticraft.machinelib.test.MinecraftTest;
+import dev.galacticraft.machinelib.test.util.StaticRegistryAccess;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.world.inventory.MenuType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MenuSyncHubTest implements MinecraftTest {
+    private final List<Viewer> viewers = new ArrayList<>();
+    private MachineEnergyStorage energy;
+    private MachineEnergyStorage other;
+    private MenuSyncHub hub;
+    private int tick = 0;
+
+    @BeforeEach
+    void setup() {
+        this.energy = new MachineEnergyStorageImpl(1000, 0, 0);
+        this.other = new MachineEnergyStorageImpl(1000, 0, 0);
+        this.hub = new MenuSyncHub();
+    }
+
+    @AfterEach
+    void releaseBodies() {
+        List<ByteBuf> roots = new ArrayList<>();
+        for (Viewer viewer : this.viewers) {
+            for (ByteBuf body : viewer.received) {
+                roots.add(root(body));
+                body.release();
+            }
+        }
+        for (ByteBuf root : roots) {
+            assertEquals(0, root.refCnt());
+        }
+    }
+
+    @Test
+    void rejectsIncompatibleViewers() {
+        Viewer leader = this.viewer(MenuType.GENERIC_9x1, SyncRate.REALTIME);
+        assertTrue(this.hub.join(leader));
+
+        assertFalse(this.hub.join(this.viewer(MenuType.GENERIC_9x2, SyncRate.REALTIME)));
+        assertFalse(this.hub.join(this.viewer(null, SyncRate.REALTIME)));
+        assertFalse(this.hub.join(this.viewer(MenuType.GENERIC_9x1, SyncRate.SLOW)));
+
+        // an incompatible viewer is synchronized individually
+        Viewer individual = this.viewer(MenuType.GENERIC_9x2, SyncRate.REALTIME);
+        this.energy.setEnergy(100);
+        this.tick++;
+        individual.synchronize();
+        assertEquals(1, individual.received.size());
+        assertEquals(1, individual.received.getFirst().refCnt());
+        assertTrue(leader.received.isEmpty());
+    }
+
+    @Test
+    void sharesBodies() {
+        Viewer first = this.viewer(MenuType.GENERIC_9x1, SyncRate.REALTIME);
+        Viewer second = this.viewer(MenuType.GENERIC_9x1, SyncRate.REALTIME);
+        this.tick++;
+        first.synchronize();
+        second.synchronize();
+
+        this.tick++;
+        this.energy.setEnergy(100);
+        first.synchronize();
+        // synchronization happens once per tick, no matter how many viewers request it
+        second.synchronize();
+
+        assertEquals(1, first.received.size());
+        assertEquals(1, second.received.size());
+        ByteBuf a = first.received.getFirst();
+        ByteBuf b = second.received.getFirst();
+        assertNotSame(a, b);
+        assertSame(root(a), root(b));
+        assertEquals(a, b);
+        // one reference per viewer; the hub released its own
+        assertEquals(2, root(a).refCnt());
+    }
+
+    @Test
+    void joinForcesFullResync() {
+        Viewer first = this.viewer(MenuType.GENERIC_9x1, SyncRate.REALTIME);
+        Viewer second = this.viewer(MenuType.GENERIC_9x1, SyncRate.REALTIME);
+
+        this.tick++;
+        this.energy.setEnergy(100);
+        first.synchronize();
+        assertEquals(1 << 1, header(first.received.getLast()));
+
+        // nothing changed, but the new viewer has not received anything yet
+        this.tick++;
+        second.synchronize();
+        assertEquals(2, first.received.size());
+        assertEquals(1, second.received.size());
+        assertEquals(3 << 1, header(first.received.getLast()));
+        assertEquals(first.received.getLast(), second.received.getLast());
+
+        this.tick++;
+        first.synchronize();
+        assertEquals(2, first.received.size());
+        assertEquals(1, second.received.size());
+    }
+
+    @Test
+    void leaderHandOff() {
+        Viewer first = this.viewer(MenuType.GENERIC_9x1, SyncRate.REALTIME);
+        Viewer second = this.viewer(MenuType.GENERIC_9x1, SyncRate.REALTIME);
+        this.tick++;
+        this.energy.setEnergy(100);
+        this.other.setEnergy(200);
+        first.synchronize();
+        second.synchronize();
+
+        this.tick++;
+        first.synchronize();
+        assertEquals(2, first.received.size());
+        assertEquals(1, second.received.size());
+        first.close();
+
+        // the new leader knows what was already sent
+        this.tick++;
+        second.synchronize();
+        assertEquals(1, second.received.size());
+
+        this.tick++;
+        this.energy.setEnergy(300);
+        second.synchronize();
+        assertEquals(2, first.received.size());
+        assertEquals(2, second.received.size());
+        assertEquals(1 << 1, header(second.received.getLast()));
+    }
+
+    @Test
+    void menuLocalDataIsNotShared() {
+        Viewer first = this.viewer(MenuType.GENERIC_9x1, SyncRate.REALTIME, () -> 1);
+        Viewer second = this.viewer(MenuType.GENERIC_9x1, SyncRate.REALTIME, () -> 2);
+        this.tick++;
+        first.synchronize();
+        second.synchronize();
+        assertEquals(1, received(first));
+        assertEquals(2, received(second));
+
+        this.tick++;
+        this.energy.setEnergy(100);
+        first.synchronize();
+        second.synchronize();
+        assertNotSame(root(first.received.getLast()), root(second.received.getLast()));
+        assertEquals(1, received(first));
+        assertEquals(2, received(second));
+    }
+
+    @Test
+    void divergedViewerIsDetached() {
+        int[] local = new int[2];
+        Viewer first = this.viewer(MenuType.GENERIC_9x1, SyncRate.REALTIME, () -> local[0]);
+        Viewer second = this.viewer(MenuType.GENERIC_9x1, SyncRate.REALTIME, () -> local[1]);
+        this.tick++;
+        first.synchronize();
+        second.synchronize();
+        this.tick++;
+        first.synchronize();
+        assertEquals(1, first.received.size());
+        assertEquals(1, second.received.size());
+
+        this.tick++;
+        local[1] = 5;
+        first.synchronize();
+        second.synchronize();
+        assertEquals(1, first.received.size());
+        assertEquals(2, second.received.size());
+        assertEquals(3 << 1, header(second.received.getLast()));
+        assertEquals(0, received(first));
+        assertEquals(5, received(second));
+
+        this.tick++;
+        local[0] = 7;
+        this.energy.setEnergy(100);
+        first.synchronize();
+        second.synchronize();
+        assertNotSame(root(first.received.getLast()), root(second.received.getLast()));
+        assertEquals(7, received(first));
+        assertEquals(5, received(second));
+    }
+
+    private Viewer viewer(@Nullable MenuType<?> type, SyncRate rate) {
+        return this.viewer(type, rate, () -> 0);
+    }
+
+    private Viewer viewer(@Nullable MenuType<?> type, SyncRate rate, IntSupplier local) {
+        Viewer viewer = new Viewer(type, rate, local);
+        this.viewers.add(viewer);
+        return viewer;
+    }
+
+    private static ByteBuf root(ByteBuf body) {
+        while (body.unwrap() != null) {
+            body = body.unwrap();
+        }
+        return body;
+    }
+
+    /**
+     * Decodes every body a viewer received, as its client would.
+     *
+     * @return the menu-local value the client ends up with
+     */
+    private static int received(Viewer viewer) {
+        int[] local = new int[1];
+        MenuDataClient client = new MenuDataClient(0);
+        client.register(new MachineEnergyStorageImpl(1000, 0, 0));
+        client.register(new MachineEnergyStorageImpl(1000, 0, 0));
+        client.registerInt(() -> 0, value -> local[0] = value);
+        for (ByteBuf body : viewer.received) {
+            client.handle(new RegistryFriendlyByteBuf(body.duplicate(), StaticRegistryAccess.INSTANCE));
+        }
+        return local[0];
+    }
+
+    private static int header(ByteBuf body) {
+        return VarInt.read(body.duplicate());
+    }
+
+    private final class Viewer extends MenuDataImpl {
+        private final List<ByteBuf> received = new ArrayList<>();
+
+        private Viewer(@Nullable MenuType<?> type, SyncRate rate, IntSupplier local) {
+            super(null, StaticRegistryAccess.INSTANCE, 0, type, hub);
+            this.register(energy, rate);
+            this.register(other, SyncRate.REALTIME);
+            // copied into the menu, like a value captured when the menu was opened
+            this.registerInt(local, value -> {});
+        }
+
+        @Override
+        void send(@NotNull ByteBuf body) {
+            this.received.add(body);
+        }
+
+        @Override
+        int getServerTick() {
+            return tick;
+        }
+    }
+}
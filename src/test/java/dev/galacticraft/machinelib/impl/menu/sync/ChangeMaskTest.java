@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.menu.sync;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangeMaskTest {
+    @Test
+    void roundTrip() {
+        BitSet mask = new BitSet();
+        mask.set(0);
+        mask.set(9);
+        mask.set(199);
+
+        ByteBuf buf = Unpooled.buffer();
+        ChangeMask.writeMask(buf, mask, 200);
+        assertEquals(25, buf.readableBytes());
+        assertEquals(mask, ChangeMask.readMask(buf, 200));
+    }
+
+    @Test
+    void trailingEntriesUnchanged() {
+        BitSet mask = new BitSet();
+        mask.set(1);
+
+        ByteBuf buf = Unpooled.buffer();
+        ChangeMask.writeMask(buf, mask, 20);
+        assertEquals(3, buf.readableBytes());
+        assertEquals(mask, ChangeMask.readMask(buf, 20));
+    }
+
+    @Test
+    void prefersMask() {
+        BitSet few = new BitSet();
+        few.set(150);
+        assertFalse(ChangeMask.prefersMask(200, ChangeMask.indexSize(few)));
+
+        BitSet many = new BitSet();
+        many.set(0, 100);
+        assertTrue(ChangeMask.prefersMask(200, ChangeMask.indexSize(many)));
+    }
+
+    @Test
+    void prefersMasks() {
+        BitSet changed = new BitSet();
+        changed.set(0, 30);
+        int indexSize = ChangeMask.indexSize(changed);
+
+        assertTrue(ChangeMask.prefersMask(200, indexSize));
+        assertFalse(ChangeMask.prefersMask(200, indexSize, 2));
+        assertTrue(ChangeMask.prefersMask(100, indexSize, 2));
+    }
+}
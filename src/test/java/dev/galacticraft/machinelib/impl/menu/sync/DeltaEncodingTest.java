@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.menu.sync;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DeltaEncodingTest {
+    @Test
+    void zigzag() {
+        for (int value : new int[]{0, 1, -1, 63, -64, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            assertEquals(value, DeltaEncoding.unzigzag(DeltaEncoding.zigzag(value)));
+        }
+        for (long value : new long[]{0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertEquals(value, DeltaEncoding.unzigzag(DeltaEncoding.zigzag(value)));
+        }
+    }
+
+    @Test
+    void smallIntDelta() {
+        ByteBuf buf = Unpooled.buffer();
+        DeltaEncoding.writeInt(buf, 99, 100);
+        assertEquals(1, buf.readableBytes());
+        assertEquals(99, DeltaEncoding.readInt(buf, 100));
+    }
+
+    @Test
+    void overflowingLongDelta() {
+        ByteBuf buf = Unpooled.buffer();
+        DeltaEncoding.writeLong(buf, Long.MIN_VALUE, Long.MAX_VALUE);
+        assertEquals(Long.MIN_VALUE, DeltaEncoding.readLong(buf, Long.MAX_VALUE));
+    }
+
+    @Test
+    void floatingPoint() {
+        ByteBuf buf = Unpooled.buffer();
+        DeltaEncoding.writeFloat(buf, 12.75f, 12.5f);
+        DeltaEncoding.writeDouble(buf, -0.1, 1e300);
+        assertEquals(12.75f, DeltaEncoding.readFloat(buf, 12.5f));
+        assertEquals(-0.1, DeltaEncoding.readDouble(buf, 1e300));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.menu.sync;
+
+import dev.galacticraft.machinelib.api.menu.ExtrapolatedLong;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExtrapolatedPacketSerializableTest {
+    private long time = 0;
+    private long value = 0;
+    private long rate = 0;
+
+    @Test
+    void steadyRateIsNotResent() {
+        ExtrapolatedPacketSerializable server = new ExtrapolatedPacketSerializable(() -> this.value, () -> this.rate, new ExtrapolatedLong(() -> this.time));
+        long[] previous = server.createEquivalent();
+
+        this.value = 10;
+        this.rate = 2;
+        assertTrue(server.hasChanged(previous));
+        server.copyInto(previous);
+
+        for (int i = 0; i < 5; i++) {
+            this.time++;
+            this.value += this.rate;
+            assertFalse(server.hasChanged(previous));
+        }
+
+        this.time++;
+        this.rate = 0;
+        assertTrue(server.hasChanged(previous));
+    }
+
+    @Test
+    void clientExtrapolates() {
+        ExtrapolatedPacketSerializable server = new ExtrapolatedPacketSerializable(() -> this.value, () -> this.rate, new ExtrapolatedLong(() -> this.time));
+        ExtrapolatedLong target = new ExtrapolatedLong(() -> this.time);
+        ExtrapolatedPacketSerializable client = new ExtrapolatedPacketSerializable(() -> 0, () -> 0, target);
+        long[] previous = server.createEquivalent();
+
+        this.value = 100;
+        this.rate = -3;
+        ByteBuf buf = Unpooled.buffer();
+        server.writePacket(buf);
+        server.copyInto(previous);
+        client.readPacket(buf);
+
+        this.time += 4;
+        assertEquals(88, target.get());
+
+        // the correction is relative to the last value sent, not the extrapolation
+        this.value = 80;
+        this.rate = -1;
+        server.writeDeltaPacket(buf, previous);
+        client.readDeltaPacket(buf);
+        assertEquals(80, target.get());
+        assertEquals(-1, target.getRate());
+    }
+}
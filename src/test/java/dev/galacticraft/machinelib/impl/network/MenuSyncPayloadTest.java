@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.network;
+
+import dev.galacticraft.machinelib.impl.network.s2c.MenuSyncPayload;
+import dev.galacticraft.machinelib.test.MinecraftTest;
+import dev.galacticraft.machinelib.test.util.Utils;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class MenuSyncPayloadTest implements MinecraftTest {
+    @Test
+    void roundTrip() {
+        RegistryFriendlyByteBuf contents = Utils.createBuf();
+        contents.writeVarInt(5);
+        contents.writeLong(1234L);
+
+        RegistryFriendlyByteBuf wire = Utils.createBuf();
+        MenuSyncPayload.CODEC.encode(wire, new MenuSyncPayload(contents));
+        Assertions.assertEquals(0, contents.refCnt());
+
+        MenuSyncPayload decoded = MenuSyncPayload.CODEC.decode(wire);
+        Assertions.assertEquals(0, wire.readableBytes());
+        Assertions.assertEquals(5, decoded.buf().readVarInt());
+        Assertions.assertEquals(1234L, decoded.buf().readLong());
+
+        wire.release();
+        Assertions.assertEquals(1, decoded.buf().refCnt());
+        decoded.buf().release();
+        Assertions.assertEquals(0, wire.refCnt());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.network;
+
+import dev.galacticraft.machinelib.api.machine.configuration.IOConfig;
+import dev.galacticraft.machinelib.api.machine.configuration.IOFace;
+import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
+import dev.galacticraft.machinelib.api.transfer.ResourceType;
+import dev.galacticraft.machinelib.api.util.BlockFace;
+import dev.galacticraft.machinelib.impl.network.s2c.SideConfigurationUpdatePayload;
+import dev.galacticraft.machinelib.test.MinecraftTest;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class SideConfigurationUpdatePayloadTest implements MinecraftTest {
+    @Test
+    void onlyChangedFacesAreSent() {
+        IOConfig config = new IOConfig();
+        config.get(BlockFace.TOP).setOption(ResourceType.ENERGY, ResourceFlow.INPUT);
+        config.get(BlockFace.LEFT).setOption(ResourceType.FLUID, ResourceFlow.OUTPUT);
+        int faces = 1 << BlockFace.TOP.ordinal() | 1 << BlockFace.LEFT.ordinal();
+
+        SideConfigurationUpdatePayload payload = SideConfigurationUpdatePayload.create(BlockPos.ZERO, faces, config);
+        ByteBuf buf = Unpooled.buffer();
+        SideConfigurationUpdatePayload.CODEC.encode(buf, payload);
+        Assertions.assertEquals(Long.BYTES + 1 + 2, buf.readableBytes());
+
+        SideConfigurationUpdatePayload decoded = SideConfigurationUpdatePayload.CODEC.decode(buf);
+        Assertions.assertEquals(payload, decoded);
+        Assertions.assertEquals(BlockPos.ZERO, decoded.pos());
+        Assertions.assertEquals(faces, decoded.faces());
+        Assertions.assertEquals(IOFace.pack(ResourceType.ENERGY, ResourceFlow.INPUT), decoded.option(BlockFace.TOP));
+        Assertions.assertEquals(IOFace.pack(ResourceType.FLUID, ResourceFlow.OUTPUT), decoded.option(BlockFace.LEFT));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FlowMeterTest {
+    @Test
+    void average() {
+        FlowMeter meter = new FlowMeter();
+        for (int i = 0; i < FlowMeter.WINDOW; i++) {
+            meter.recordInsertion(100 + i, 10);
+            meter.recordExtraction(100 + i, 5);
+        }
+
+        assertEquals(10.0, meter.averageInsertion(100 + FlowMeter.WINDOW - 1));
+        assertEquals(5.0, meter.averageExtraction(100 + FlowMeter.WINDOW - 1));
+    }
+
+    @Test
+    void oldTicksExpire() {
+        FlowMeter meter = new FlowMeter();
+        meter.recordInsertion(0, FlowMeter.WINDOW);
+        meter.recordInsertion(5, FlowMeter.WINDOW);
+
+        assertEquals(2.0, meter.averageInsertion(FlowMeter.WINDOW - 1));
+        assertEquals(1.0, meter.averageInsertion(FlowMeter.WINDOW));
+        assertEquals(0.0, meter.averageInsertion(FlowMeter.WINDOW + 5));
+        assertEquals(0.0, meter.averageInsertion(1000));
+    }
+}
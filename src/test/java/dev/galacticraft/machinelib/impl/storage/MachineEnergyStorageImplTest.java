@@ -23,6 +23,8 @@
 package dev.galacticraft.machinelib.impl.storage;
 
 import dev.galacticraft.machinelib.api.storage.MachineEnergyStorage;
+import dev.galacticraft.machinelib.api.transfer.ResourceFlow;
+import dev.galacticraft.machinelib.api.util.StorageHelper;
 import dev.galacticraft.machinelib.test.MinecraftTest;
 import dev.galacticraft.machinelib.test.util.Utils;
 import io.netty.buffer.ByteBuf;
@@ -56,6 +58,32 @@ void getCapacity() {
         assertEquals(CAPACITY, this.storage.getCapacity());
     }
 
+    @Test
+    void directMove() {
+        MachineEnergyStorage source = new MachineEnergyStorageImpl(CAPACITY, 0, 100);
+        source.setEnergy(1000);
+
+        assertEquals(100, StorageHelper.move(source.getExposedStorage(ResourceFlow.OUTPUT), storage, 500, null));
+        assertEquals(900, source.getAmount());
+        assertEquals(100, storage.getAmount());
+
+        // the storage does not expose an input
+        assertEquals(0, StorageHelper.move(source, storage.getExposedStorage(ResourceFlow.INPUT), 500, null));
+        assertEquals(900, source.getAmount());
+    }
+
+    @Test
+    void transactionalMove() {
+        MachineEnergyStorage source = new MachineEnergyStorageImpl(CAPACITY, 0, 100);
+        source.setEnergy(1000);
+
+        try (Transaction transaction = Transaction.openOuter()) {
+            assertEquals(100, StorageHelper.move(source.getExposedStorage(ResourceFlow.OUTPUT), storage, 500, transaction));
+        }
+        assertEquals(1000, source.getAmount());
+        assertEquals(0, storage.getAmount());
+    }
+
     @AfterEach
     void nbtSerialization() {
         long amount = storage.getAmount();
@@ -78,6 +106,27 @@ void packetSerialization() {
         assertEquals(amount, storage.getAmount());
     }
 
+    @Test
+    void deltaPacketSerialization() {
+        MachineEnergyStorage client = new MachineEnergyStorageImpl(CAPACITY, 0, 0);
+        long[] previous = this.storage.createEquivalent();
+        assertNotNull(previous);
+
+        this.storage.setEnergy(1500);
+        ByteBuf buf = Unpooled.buffer();
+        this.storage.writeDeltaPacket(buf, previous);
+        this.storage.copyInto(previous);
+        client.readDeltaPacket(buf);
+        assertEquals(1500, client.getAmount());
+
+        this.storage.setEnergy(1490);
+        buf.clear();
+        this.storage.writeDeltaPacket(buf, previous);
+        assertEquals(1, buf.readableBytes());
+        client.readDeltaPacket(buf);
+        assertEquals(1490, client.getAmount());
+    }
+
     @Nested
     class Empty {
         @Test
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2021-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.machinelib.impl.storage;
+
+import dev.galacticraft.machinelib.api.filter.ResourceFilters;
+import dev.galacticraft.machinelib.api.storage.slot.ItemResourceSlot;
+import dev.galacticraft.machinelib.api.transfer.TransferType;
+import dev.galacticraft.machinelib.impl.storage.slot.ItemResourceSlotImpl;
+import dev.galacticraft.machinelib.test.MinecraftTest;
+import dev.galacticraft.machinelib.test.util.Utils;
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ResourceStorageImplTest implements MinecraftTest {
+    private static final int SIZE = 64;
+    private MachineItemStorageImpl server;
+    private MachineItemStorageImpl client;
+    private long[] previous;
+
+    @BeforeEach
+    void setup() {
+        this.server = createStorage();
+        this.client = createStorage();
+        this.previous = this.server.createEquivalent();
+        this.server.copyInto(this.previous);
+    }
+
+    @Test
+    void indexEncoding() {
+        this.server.slot(3).insert(Items.STICK, DataComponentPatch.EMPTY, 5);
+        this.server.slot(40).insert(Items.GLASS, DataComponentPatch.EMPTY, 7);
+
+        RegistryFriendlyByteBuf buf = this.writeDelta();
+        assertEquals(2 << 1, VarInt.read(buf.duplicate()));
+        this.readDelta(buf);
+    }
+
+    @Test
+    void maskEncoding() {
+        for (int i = 0; i < SIZE; i += 2) {
+            this.server.slot(i).insert(Items.STICK, DataComponentPatch.EMPTY, i + 1);
+        }
+
+        RegistryFriendlyByteBuf buf = this.writeDelta();
+        assertEquals(SIZE / 2 << 1 | 1, VarInt.read(buf.duplicate()));
+        this.readDelta(buf);
+    }
+
+    @Test
+    void fullEncoding() {
+        for (int i = 0; i < SIZE; i++) {
+            this.server.slot(i).insert(Items.STICK, DataComponentPatch.EMPTY, i + 1);
+        }
+
+        RegistryFriendlyByteBuf buf = this.writeDelta();
+        assertEquals(SIZE << 1, VarInt.read(buf.duplicate()));
+        this.readDelta(buf);
+    }
+
+    @Test
+    void amountOnly() {
+        this.server.slot(3).insert(Items.STICK, DataComponentPatch.EMPTY, 5);
+        this.readDelta(this.writeDelta());
+
+        this.server.slot(3).insert(Items.STICK, DataComponentPatch.EMPTY, 10);
+        RegistryFriendlyByteBuf buf = this.writeDelta();
+        assertEquals(3, buf.readableBytes()); // header, index and varlong amount
+        assertEquals(3 << 1, buf.getByte(1));
+        this.readDelta(buf);
+
+        this.server.slot(3).extract(14);
+        this.readDelta(this.writeDelta());
+    }
+
+    @Test
+    void amountOnlyIntoEmptySlot() {
+        this.server.slot(3).insert(Items.STICK, DataComponentPatch.EMPTY, 5);
+        this.readDelta(this.writeDelta());
+
+        this.client.slot(3).extract(5);
+        this.server.slot(3).insert(Items.STICK, DataComponentPatch.EMPTY, 1);
+        RegistryFriendlyByteBuf buf = this.writeDelta();
+        this.client.readDeltaPacket(buf);
+        assertEquals(0, buf.readableBytes());
+        assertNull(this.client.slot(3).getResource());
+        assertEquals(0, this.client.slot(3).getAmount());
+    }
+
+    @Test
+    void variantChange() {
+        DataComponentPatch components = Utils.generateComponents();
+
+        this.server.slot(3).insert(Items.STICK, DataComponentPatch.EMPTY, 5);
+        this.readWholeSlot(this.writeDelta());
+
+        this.server.slot(3).extract(5);
+        this.readWholeSlot(this.writeDelta());
+
+        this.server.slot(3).insert(Items.STICK, DataComponentPatch.EMPTY, 5);
+        this.readWholeSlot(this.writeDelta());
+
+        this.server.slot(3).extract(5);
+        this.server.slot(3).insert(Items.STICK, components, 5);
+        this.readWholeSlot(this.writeDelta());
+
+        this.server.slot(3).insert(Items.STICK, components, 1);
+        RegistryFriendlyByteBuf buf = this.writeDelta();
+        assertEquals(3 << 1, buf.getByte(1));
+        this.readDelta(buf);
+    }
+
+    private void readWholeSlot(RegistryFriendlyByteBuf buf) {
+        assertEquals(3 << 1 | 1, buf.getByte(1));
+        this.readDelta(buf);
+    }
+
+    private RegistryFriendlyByteBuf writeDelta() {
+        RegistryFriendlyByteBuf buf = Utils.createBuf();
+        this.server.writeDeltaPacket(buf, this.previous);
+        this.server.copyInto(this.previous);
+        return buf;
+    }
+
+    private void readDelta(RegistryFriendlyByteBuf buf) {
+        this.client.readDeltaPacket(buf);
+        assertEquals(0, buf.readableBytes());
+
+        for (int i = 0; i < SIZE; i++) {
+            ItemResourceSlot expected = this.server.slot(i);
+            ItemResourceSlot actual = this.client.slot(i);
+            assertSame(expected.getResource(), actual.getResource());
+            assertEquals(expected.getComponents(), actual.getComponents());
+            assertEquals(expected.getAmount(), actual.getAmount());
+        }
+    }
+
+    private static MachineItemStorageImpl createStorage() {
+        ItemResourceSlot[] slots = new ItemResourceSlot[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            slots[i] = new ItemResourceSlotImpl(TransferType.STORAGE, null, ResourceFilters.any(), 64);
+        }
+        return new MachineItemStorageImpl(slots);
+    }
+}
@@ -25,6 +25,10 @@
 import dev.galacticraft.machinelib.api.filter.ResourceFilters;
 import dev.galacticraft.machinelib.api.transfer.TransferType;
 import dev.galacticraft.machinelib.test.util.Utils;
+import net.fabricmc.fabric.api.lookup.v1.item.ItemApiLookup;
+import net.fabricmc.fabric.api.transfer.v1.context.ContainerItemContext;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.minecraft.core.component.DataComponentPatch;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.Item;
@@ -34,6 +38,8 @@
 import org.junit.jupiter.api.Test;
 import team.reborn.energy.api.EnergyStorage;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -55,6 +61,71 @@ void find() {
         assertNull(slot.find(EnergyStorage.ITEM));
     }
 
+    @Test
+    void findCachesMultipleLookups() {
+        List<ItemApiLookup<Object, ContainerItemContext>> lookups = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ItemApiLookup<Object, ContainerItemContext> lookup = ItemApiLookup.get(ResourceLocation.fromNamespaceAndPath("machinelib_test", "slot_lookup_" + i), Object.class, ContainerItemContext.class);
+            lookup.registerForItems((stack, context) -> new Object(), resource0);
+            lookups.add(lookup);
+        }
+
+        slot.set(resource0, 1);
+        List<Object> apis = new ArrayList<>();
+        for (ItemApiLookup<Object, ContainerItemContext> lookup : lookups) {
+            apis.add(slot.find(lookup));
+        }
+
+        for (int i = 0; i < lookups.size(); i++) {
+            assertNotNull(apis.get(i));
+            assertSame(apis.get(i), slot.find(lookups.get(i)));
+        }
+
+        slot.set(resource0, 2);
+        assertSame(apis.getFirst(), slot.find(lookups.getFirst()));
+
+        slot.set(resource1, 2);
+        assertNotSame(apis.getFirst(), slot.find(lookups.getFirst()));
+    }
+
+    @Test
+    void findAfterAbortedTransaction() {
+        ItemApiLookup<Item, ContainerItemContext> lookup = ItemApiLookup.get(ResourceLocation.fromNamespaceAndPath("machinelib_test", "slot_item_lookup"), Item.class, ContainerItemContext.class);
+        lookup.registerFallback((stack, context) -> stack.getItem());
+
+        slot.set(resource0, 5);
+        try (Transaction transaction = Transaction.openOuter()) {
+            slot.extract(resource0, null, 5, transaction);
+            slot.insert(resource1, DataComponentPatch.EMPTY, 5, transaction);
+            assertSame(resource1, slot.find(lookup));
+        }
+        assertSame(resource0, slot.find(lookup));
+
+        // the modification count returns to the value it had inside the aborted transaction
+        try (Transaction transaction = Transaction.openOuter()) {
+            slot.extract(resource0, null, 5, transaction);
+            transaction.commit();
+        }
+        try (Transaction transaction = Transaction.openOuter()) {
+            slot.insert(Items.DIRT, DataComponentPatch.EMPTY, 5, transaction);
+            transaction.commit();
+        }
+        assertSame(Items.DIRT, slot.find(lookup));
+    }
+
+    @Test
+    void itemVariantCached() {
+        assertTrue(slot.getItemVariant().isBlank());
+
+        slot.set(resource0, 1);
+        ItemVariant variant = slot.getItemVariant();
+        assertEquals(ItemVariant.of(resource0), variant);
+        assertSame(variant, slot.getItemVariant());
+
+        slot.set(resource1, 1);
+        assertEquals(ItemVariant.of(resource1), slot.getItemVariant());
+    }
+
     @Test
     void limitedCapacity() {
         assertEquals(Items.EGG.getDefaultMaxStackSize(), slot.getCapacityFor(Items.EGG, DataComponentPatch.EMPTY));
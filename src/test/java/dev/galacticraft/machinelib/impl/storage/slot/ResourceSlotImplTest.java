@@ -76,6 +76,35 @@ void set() {
         assertEquals(1, slot.getAmount());
     }
 
+    @Test
+    void variantModifications() {
+        ResourceSlotImpl<?> impl = (ResourceSlotImpl<?>) this.slot;
+        long initial = impl.getVariantModifications();
+
+        slot.insert(resource0, dcp, 2);
+        long filled = impl.getVariantModifications();
+        assertNotEquals(initial, filled);
+
+        slot.insert(resource0, dcp, 2);
+        slot.extract(1);
+        assertEquals(filled, impl.getVariantModifications());
+
+        slot.extract(3);
+        assertNotEquals(filled, impl.getVariantModifications());
+    }
+
+    @Test
+    void variantModificationsRollback() {
+        ResourceSlotImpl<?> impl = (ResourceSlotImpl<?>) this.slot;
+        long initial = impl.getVariantModifications();
+
+        try (Transaction transaction = Transaction.openOuter()) {
+            slot.insert(resource1, dcp, 1, transaction);
+            assertNotEquals(initial, impl.getVariantModifications());
+        }
+        assertEquals(initial, impl.getVariantModifications());
+    }
+
     @Test
     void serializeEmpty() {
         slot.createTag();